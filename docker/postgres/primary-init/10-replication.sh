@@ -0,0 +1,4 @@
+#!/bin/bash
+# Lets the replica stream WAL from this server. Runs once, when the data volume is first initialised.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,80 @@
+package org.project.bookingapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.project.bookingapi.config.AvailabilityIndexConfig;
+import org.project.bookingapi.config.AvailabilitySearchConfig;
+import org.project.bookingapi.config.BookingWriteConfig;
+import org.project.bookingapi.metrics.BookingMetrics;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.service.AvailabilityIndex;
+import org.project.bookingapi.service.AvailabilitySearchCoalescer;
+import org.project.bookingapi.service.BookingService;
+import org.project.bookingapi.service.RoomCatalog;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// source=INDEX answers from the occupancy bitmap; source=SCAN leaves the index cold so the service falls
+// back to the repository, here an in-memory scan standing in for the anti-join query.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilitySearchBenchmark {
+
+    static final int HORIZON_DAYS = 365;
+
+    @Param({"100", "1000", "5000"})
+    int roomCount;
+
+    @Param({"0.2", "0.8"})
+    double density;
+
+    @Param({"INDEX", "SCAN"})
+    String source;
+
+    BookingService bookingService;
+    LocalDate origin;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        origin = LocalDate.now();
+        final var store = new InMemoryRepositories(roomCount, density, origin, HORIZON_DAYS);
+        final var config = new AvailabilityIndexConfig();
+        config.setHorizonDays(HORIZON_DAYS);
+
+        final var roomsRepository = store.roomsRepository();
+        final var bookingRepository = store.bookingRepository();
+        final var index = new AvailabilityIndex(roomsRepository, bookingRepository, config);
+        if ("INDEX".equals(source)) {
+            index.rebuild();
+        }
+        bookingService = new BookingService(bookingRepository, roomsRepository, new RoomCatalog(roomsRepository), index,
+                new AvailabilitySearchCoalescer(new AvailabilitySearchConfig(), null, Optional.empty()), event -> {
+        }, new BookingMetrics(new SimpleMeterRegistry()), new BookingWriteConfig(), null);
+    }
+
+    @Benchmark
+    public List<RoomsDto> getAvailableRooms() {
+        final var random = ThreadLocalRandom.current();
+        final var checkin = origin.plusDays(random.nextInt(HORIZON_DAYS - 14));
+        return bookingService.getAvailableRooms(checkin, checkin.plusDays(1 + random.nextInt(14)));
+    }
+}
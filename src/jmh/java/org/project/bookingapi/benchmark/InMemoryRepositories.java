@@ -0,0 +1,142 @@
+package org.project.bookingapi.benchmark;
+
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.model.ReservationPeriod;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.repository.RoomsRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * In-memory stand-in for the repositories used on the booking hot paths. Only the methods the service
+ * calls are implemented; writes are acknowledged but not stored so every benchmark iteration sees the
+ * same room count and reservation density.
+ */
+final class InMemoryRepositories {
+
+    private static final RoomType[] TYPES = RoomType.values();
+
+    final Map<UUID, Rooms> rooms = new LinkedHashMap<>();
+    final Map<UUID, Reservation> reservations = new HashMap<>();
+    final Map<UUID, List<Reservation>> reservationsByRoom = new HashMap<>();
+
+    // Fills horizonDays nights per room so roughly density of them are booked, in stays of 1-7 nights.
+    InMemoryRepositories(final int roomCount, final double density, final LocalDate origin, final int horizonDays) {
+        final var random = new SplittableRandom(42);
+        for (int i = 0; i < roomCount; i++) {
+            final var room = Rooms.builder()
+                    .id(UUID.randomUUID())
+                    .roomNumber(100L + i)
+                    .type(TYPES[i % TYPES.length])
+                    .build();
+            rooms.put(room.getId(), room);
+            reservationsByRoom.put(room.getId(), new ArrayList<>());
+
+            int night = 0;
+            while (night < horizonDays) {
+                final int stay = 1 + random.nextInt(7);
+                final int gap = density >= 1.0 ? 0 : (int) Math.round(stay * (1 - density) / density * 2 * random.nextDouble());
+                night += gap;
+                if (night + stay > horizonDays) {
+                    break;
+                }
+                add(room, origin.plusDays(night), origin.plusDays(night + stay));
+                night += stay;
+            }
+        }
+    }
+
+    private void add(final Rooms room, final LocalDate checkin, final LocalDate checkout) {
+        final var reservation = Reservation.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .roomId(room.getId())
+                .roomNumber(room.getRoomNumber().intValue())
+                .firstName("Bench")
+                .lastName("Mark")
+                .checkinDate(checkin)
+                .checkoutDate(checkout)
+                .status(BookingStatusType.ACTIVE)
+                .version(0L)
+                .build();
+        reservations.put(reservation.getId(), reservation);
+        reservationsByRoom.get(room.getId()).add(reservation);
+    }
+
+    List<Reservation> reservationsOf(final UUID roomId) {
+        return reservationsByRoom.get(roomId);
+    }
+
+    RoomsRepository roomsRepository() {
+        return proxy(RoomsRepository.class, (name, args) -> switch (name) {
+            case "findById" -> Optional.ofNullable(rooms.get((UUID) args[0]));
+            case "findAll" -> List.copyOf(rooms.values());
+            case "findAllById" -> ((Collection<?>) args[0]).stream().map(rooms::get).toList();
+            case "findAvailableRooms" -> rooms.values().stream()
+                    .filter(room -> overlapping(room.getId(), (LocalDate) args[0], (LocalDate) args[1]).isEmpty())
+                    .toList();
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    BookingRepository bookingRepository() {
+        return proxy(BookingRepository.class, (name, args) -> switch (name) {
+            case "findById" -> Optional.ofNullable(reservations.get((UUID) args[0]));
+            case "findOverlappingReservations" -> overlapping((UUID) args[0], (LocalDate) args[1], (LocalDate) args[2]);
+            case "findActivePeriods" -> reservations.values().stream()
+                    .filter(reservation -> isActiveBetween(reservation, (LocalDate) args[0], (LocalDate) args[1]))
+                    .map(reservation -> new ReservationPeriod(reservation.getId(), reservation.getRoomId(), reservation.getCheckinDate(), reservation.getCheckoutDate()))
+                    .toList();
+            case "saveAndFlush", "save" -> {
+                final var reservation = (Reservation) args[0];
+                if (reservation.getId() == null) {
+                    reservation.setId(UUID.randomUUID());
+                }
+                yield reservation;
+            }
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private List<Reservation> overlapping(final UUID roomId, final LocalDate checkin, final LocalDate checkout) {
+        final var result = new ArrayList<Reservation>();
+        for (Reservation reservation : reservationsByRoom.getOrDefault(roomId, List.of())) {
+            if (isActiveBetween(reservation, checkin, checkout)) {
+                result.add(reservation);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isActiveBetween(final Reservation reservation, final LocalDate from, final LocalDate to) {
+        return reservation.getStatus() != BookingStatusType.CANCELLED
+                && reservation.getCheckinDate().isBefore(to)
+                && reservation.getCheckoutDate().isAfter(from);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final BiFunction<String, Object[], Object> handler) {
+        final InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> type.getSimpleName() + "(in-memory)";
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> handler.apply(method.getName(), args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+}
@@ -0,0 +1,53 @@
+package org.project.bookingapi.benchmark;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.project.bookingapi.service.JwtService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    JwtService jwtService;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        try (InputStream privateKey = new ClassPathResource("jwt/app.key").getInputStream();
+             InputStream publicKey = new ClassPathResource("jwt/app.pub").getInputStream()) {
+            final var jwk = new RSAKey.Builder(RsaKeyConverters.x509().convert(publicKey))
+                    .privateKey(RsaKeyConverters.pkcs8().convert(privateKey))
+                    .build();
+            jwtService = new JwtService("booking-api", Duration.ofMinutes(15),
+                    new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk))));
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("john_doe");
+    }
+}
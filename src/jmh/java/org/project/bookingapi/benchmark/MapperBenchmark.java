@@ -0,0 +1,61 @@
+package org.project.bookingapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.mapper.BookingRequestMapper;
+import org.project.bookingapi.mapper.BookingResponseMapper;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.ReservationResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    final ReservationRequest request = ReservationRequest.builder()
+            .roomId(UUID.randomUUID())
+            .userId(UUID.randomUUID())
+            .firstname("John").surname("Doe")
+            .roomNum(101)
+            .checkinDate(LocalDate.of(2026, 1, 10))
+            .checkoutDate(LocalDate.of(2026, 1, 12))
+            .build();
+
+    final Reservation reservation = Reservation.builder()
+            .id(UUID.randomUUID())
+            .roomId(UUID.randomUUID())
+            .userId(UUID.randomUUID())
+            .firstName("John").lastName("Doe")
+            .roomNumber(101)
+            .checkinDate(LocalDate.of(2026, 1, 10))
+            .checkoutDate(LocalDate.of(2026, 1, 12))
+            .status(BookingStatusType.ACTIVE)
+            .version(1L)
+            .build();
+
+    @Benchmark
+    public Reservation mapRequest() {
+        return BookingRequestMapper.INSTANCE.map(request);
+    }
+
+    @Benchmark
+    public ReservationResponse mapResponse() {
+        return BookingResponseMapper.INSTANCE.map(reservation);
+    }
+}
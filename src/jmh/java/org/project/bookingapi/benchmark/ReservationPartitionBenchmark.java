@@ -0,0 +1,321 @@
+package org.project.bookingapi.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.project.bookingapi.entity.Reservation;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The reservation queries and inserts against a Postgres container holding `rows` reservations over ~11 years of
+// history: before partitioning (layout=HEAP, schema at V5), partitioned by check-in month (PARTITIONED, V6), and
+// with the overlap queries moved onto the guard (PARTITIONED_GUARD, V7). The partitioned layouts migrate that same data, which is
+// timed and printed, as are index sizes and WAL bytes per insert. Queries mirror the repository SQL of each
+// version. Loading 10M rows takes several minutes per trial; pass -p rows=1000000 for a quicker look.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReservationPartitionBenchmark {
+
+    static final int ROOMS = 5000;
+    static final int USERS = 20_000;
+    static final int SEARCH_DAYS = 180;
+
+    public enum Layout {
+        HEAP("5",
+                """
+                        select * from booking.reservation r
+                        where r.room_id = ? and r.status <> 'CANCELLED'
+                          and not (r.checkout_date <= ? or r.checkin_date >= ?)
+                        """,
+                """
+                        select rm.* from booking.rooms rm
+                        where not exists (
+                            select 1 from booking.reservation r
+                            where r.room_id = rm.id
+                              and r.status is distinct from 'CANCELLED'
+                              and r.period && daterange(?, ?, '[)'))
+                        order by rm.room_number
+                        """),
+        PARTITIONED("6",
+                """
+                        select * from booking.reservation r
+                        where r.room_id = ? and r.status <> 'CANCELLED'
+                          and r.checkout_date > ? and r.checkin_date < ? and r.checkin_date > ?
+                        """,
+                """
+                        select rm.* from booking.rooms rm
+                        where not exists (
+                            select 1 from booking.reservation r
+                            where r.room_id = rm.id
+                              and r.status is distinct from 'CANCELLED'
+                              and r.checkin_date > ?
+                              and r.checkin_date < ?
+                              and r.period && daterange(?, ?, '[)'))
+                        order by rm.room_number
+                        """),
+        // V7: the status and dates btrees dropped; both queries probe the reservation_no_overlap GiST index on
+        // reservation_guard.
+        PARTITIONED_GUARD("7",
+                """
+                        select r.* from booking.reservation_guard g
+                        join booking.reservation r on r.id = g.reservation_id and r.checkin_date = g.checkin_date
+                        where g.room_id = ? and g.status is distinct from 'CANCELLED'
+                          and g.period && daterange(?, ?, '[)') and r.checkin_date < ? and r.checkin_date > ?
+                        """,
+                """
+                        select rm.* from booking.rooms rm
+                        where not exists (
+                            select 1 from booking.reservation_guard g
+                            where g.room_id = rm.id
+                              and g.status is distinct from 'CANCELLED'
+                              and g.period && daterange(?, ?, '[)'))
+                        order by rm.room_number
+                        """);
+
+        final String target;
+        final String overlapping;
+        final String availableRooms;
+
+        Layout(final String target, final String overlapping, final String availableRooms) {
+            this.target = target;
+            this.overlapping = overlapping;
+            this.availableRooms = availableRooms;
+        }
+    }
+
+    @Param({"HEAP", "PARTITIONED", "PARTITIONED_GUARD"})
+    Layout layout;
+
+    @Param({"10000000"})
+    int rows;
+
+    PostgreSQLContainer<?> postgres;
+    Connection connection;
+    PreparedStatement overlapping;
+    PreparedStatement availableRooms;
+    PreparedStatement byUser;
+    PreparedStatement byId;
+    PreparedStatement insert;
+    String walAtStart;
+    int inserted;
+    List<UUID> roomIds;
+    List<UUID> userIds;
+    List<UUID> reservationIds;
+    LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16")
+                .withCommand("postgres", "-c", "shared_buffers=1GB", "-c", "max_wal_size=8GB",
+                        "-c", "maintenance_work_mem=1GB", "-c", "synchronous_commit=off");
+        postgres.start();
+        today = LocalDate.now();
+
+        migrate("5");
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        load();
+        if (layout != Layout.HEAP) {
+            final long start = System.nanoTime();
+            migrate(layout.target);
+            System.out.printf("%nMigrated %,d reservations to %s in %s%n", rows, layout,
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+        execute("analyze");
+        System.out.printf("%nreservation indexes: %s%n", scalar("""
+                select pg_size_pretty(sum(pg_relation_size(i.indexrelid)))
+                from pg_index i join pg_class c on c.oid = i.indrelid
+                where c.relnamespace = 'booking'::regnamespace
+                  and (c.relname like 'reservation%' or c.relname = 'reservation_guard')
+                """));
+
+        roomIds = ids("select id from booking.rooms");
+        userIds = ids("select id from booking.users");
+        reservationIds = ids("select id from booking.reservation tablesample system (0.1) limit 10000");
+        overlapping = connection.prepareStatement(layout.overlapping);
+        availableRooms = connection.prepareStatement(layout.availableRooms);
+        byUser = connection.prepareStatement("select * from booking.reservation where user_id = ? order by created_date, id limit 20");
+        byId = connection.prepareStatement("select * from booking.reservation where id = ?");
+        insert = connection.prepareStatement("""
+                insert into booking.reservation (id, first_name, last_name, user_id, room_number, room_id,
+                                                 checkin_date, checkout_date, status, version, created_date)
+                values (gen_random_uuid(), 'Bench', 'Mark', ?, 0, ?, ?, ?, 'ACTIVE', 0, now())
+                """);
+        walAtStart = scalar("select pg_current_wal_lsn()::text");
+    }
+
+    private void migrate(final String target) {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .schemas("booking")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    // Every room gets back-to-back stays of one or two nights, the last ending about a year from now; one in ten
+    // is cancelled, and users are spread evenly over the reservations.
+    private void load() throws SQLException {
+        final int slots = rows / ROOMS;
+        final var start = today.plusDays(365 - 2L * slots);
+        execute("""
+                insert into booking.rooms (id, room_type, room_number)
+                select md5('room' || n)::uuid, 'DOUBLE', 1000 + n from generate_series(1, %d) n
+                """.formatted(ROOMS));
+        execute("""
+                insert into booking.users (id, username, email, password)
+                select md5('user' || n)::uuid, 'bench_' || n, 'bench_' || n || '@example.com', 'x'
+                from generate_series(1, %d) n
+                """.formatted(USERS));
+        execute("""
+                insert into booking.reservation (id, first_name, last_name, user_id, room_number, room_id,
+                                                 checkin_date, checkout_date, status, version, created_date)
+                select gen_random_uuid(), 'Bench', 'Mark',
+                       md5('user' || (n %% %2$d + 1))::uuid,
+                       1000 + n %% %1$d + 1,
+                       md5('room' || (n %% %1$d + 1))::uuid,
+                       date '%3$s' + (n / %1$d) * 2,
+                       date '%3$s' + (n / %1$d) * 2 + 1 + n %% 2,
+                       case when n %% 10 = 0 then 'CANCELLED' else 'ACTIVE' end,
+                       0,
+                       (date '%3$s' + (n / %1$d) * 2 - 30)::timestamp
+                from generate_series(0, %4$d - 1) n
+                """.formatted(ROOMS, USERS, start, slots * ROOMS));
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private List<UUID> ids(final String sql) throws SQLException {
+        final var ids = new ArrayList<UUID>();
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+
+    private String scalar(final String sql) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    // WAL per insert is the write amplification: the heap tuple plus every index entry, and on partitioned
+    // layouts the guard row and its indexes. The read benchmarks add almost nothing to it.
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (inserted > 0) {
+            System.out.printf("%n%s: %,d inserts wrote %s bytes of WAL per insert%n", layout, inserted,
+                    scalar("select round(pg_wal_lsn_diff(pg_current_wal_lsn(), '%s') / %d)".formatted(walAtStart, inserted)));
+        }
+        connection.close();
+        postgres.stop();
+    }
+
+    private static <T> T any(final List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private LocalDate anyCheckin() {
+        return today.plusDays(ThreadLocalRandom.current().nextInt(SEARCH_DAYS));
+    }
+
+    private static int count(final PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (var resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int overlapCheck() throws SQLException {
+        final var checkin = anyCheckin();
+        final var checkout = checkin.plusDays(1 + ThreadLocalRandom.current().nextInt(7));
+        overlapping.setObject(1, any(roomIds));
+        overlapping.setDate(2, Date.valueOf(checkin));
+        overlapping.setDate(3, Date.valueOf(checkout));
+        if (layout == Layout.PARTITIONED_GUARD) {
+            overlapping.setDate(4, Date.valueOf(checkout));
+            overlapping.setDate(5, Date.valueOf(checkin.minusDays(Reservation.MAX_STAY_NIGHTS)));
+        } else if (layout == Layout.PARTITIONED) {
+            overlapping.setDate(4, Date.valueOf(checkin.minusDays(Reservation.MAX_STAY_NIGHTS)));
+        }
+        return count(overlapping);
+    }
+
+    @Benchmark
+    public int availableRooms() throws SQLException {
+        final var checkin = anyCheckin();
+        final var checkout = checkin.plusDays(1 + ThreadLocalRandom.current().nextInt(7));
+        int parameter = 1;
+        if (layout == Layout.PARTITIONED) {
+            availableRooms.setDate(parameter++, Date.valueOf(checkin.minusDays(Reservation.MAX_STAY_NIGHTS)));
+            availableRooms.setDate(parameter++, Date.valueOf(checkout));
+        }
+        availableRooms.setDate(parameter++, Date.valueOf(checkin));
+        availableRooms.setDate(parameter, Date.valueOf(checkout));
+        return count(availableRooms);
+    }
+
+    // Not bounded by check-in date, so partitioning can only make these slower; archival keeps the number of
+    // partitions they probe in check.
+    @Benchmark
+    public int userHistory() throws SQLException {
+        byUser.setObject(1, any(userIds));
+        return count(byUser);
+    }
+
+    @Benchmark
+    public int findById() throws SQLException {
+        byId.setObject(1, any(reservationIds));
+        return count(byId);
+    }
+
+    // One night in a slot after all loaded stays, so every insert succeeds; autocommitted like a booking.
+    @Benchmark
+    public int insert() throws SQLException {
+        final int n = inserted++;
+        final var checkin = today.plusDays(400 + 2L * (n / ROOMS));
+        insert.setObject(1, userIds.get(n % userIds.size()));
+        insert.setObject(2, roomIds.get(n % ROOMS));
+        insert.setDate(3, Date.valueOf(checkin));
+        insert.setDate(4, Date.valueOf(checkin.plusDays(1)));
+        return insert.executeUpdate();
+    }
+}
@@ -0,0 +1,108 @@
+package org.project.bookingapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.project.bookingapi.config.AvailabilityIndexConfig;
+import org.project.bookingapi.config.AvailabilitySearchConfig;
+import org.project.bookingapi.config.BookingWriteConfig;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.enums.ConflictCheck;
+import org.project.bookingapi.metrics.BookingMetrics;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.ReservationResponse;
+import org.project.bookingapi.service.AvailabilityIndex;
+import org.project.bookingapi.service.AvailabilitySearchCoalescer;
+import org.project.bookingapi.service.BookingService;
+import org.project.bookingapi.service.RoomCatalog;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Service-side cost of the write paths (lookups, overlap pre-check, mapping, event publication) with the
+// repositories replaced by in-memory stand-ins; the density controls how many reservations the pre-check scans.
+// CONSTRAINT_ONLY skips the pre-check and leaves overlaps to the database, which the stand-ins do not enforce, so
+// the difference is the service-side cost only; the loadtest profile compares both modes against Postgres.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationWriteBenchmark {
+
+    static final int HORIZON_DAYS = 365;
+
+    @Param({"100", "1000"})
+    int roomCount;
+
+    @Param({"0.2", "0.8"})
+    double density;
+
+    @Param({"PRE_CHECK", "CONSTRAINT_ONLY"})
+    ConflictCheck conflictCheck;
+
+    BookingService bookingService;
+    LocalDate origin;
+    List<UUID> roomIds;
+    List<Reservation> reservations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        origin = LocalDate.now();
+        final var store = new InMemoryRepositories(roomCount, density, origin, HORIZON_DAYS);
+        final var config = new AvailabilityIndexConfig();
+        config.setHorizonDays(HORIZON_DAYS);
+
+        final var roomsRepository = store.roomsRepository();
+        final var bookingRepository = store.bookingRepository();
+        final var index = new AvailabilityIndex(roomsRepository, bookingRepository, config);
+        final var writeConfig = new BookingWriteConfig();
+        writeConfig.setConflictCheck(conflictCheck);
+        bookingService = new BookingService(bookingRepository, roomsRepository, new RoomCatalog(roomsRepository), index,
+                new AvailabilitySearchCoalescer(new AvailabilitySearchConfig(), null, Optional.empty()), event -> {
+        }, new BookingMetrics(new SimpleMeterRegistry()), writeConfig, null);
+        roomIds = List.copyOf(store.rooms.keySet());
+        reservations = List.copyOf(store.reservations.values());
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation() {
+        final var random = ThreadLocalRandom.current();
+        final var checkin = origin.plusDays(HORIZON_DAYS + random.nextInt(30));
+        return bookingService.createReservation(ReservationRequest.builder()
+                .roomId(roomIds.get(random.nextInt(roomIds.size())))
+                .userId(UUID.randomUUID())
+                .firstname("Bench").surname("Mark")
+                .roomNum(1)
+                .checkinDate(checkin)
+                .checkoutDate(checkin.plusDays(2))
+                .build());
+    }
+
+    @Benchmark
+    public ReservationResponse updateReservation() {
+        final var existing = reservations.get(ThreadLocalRandom.current().nextInt(reservations.size()));
+        return bookingService.updateReservation(existing.getId(), ReservationRequest.builder()
+                .roomId(existing.getRoomId())
+                .userId(existing.getUserId())
+                .roomNum(existing.getRoomNumber())
+                .checkinDate(existing.getCheckinDate())
+                .checkoutDate(existing.getCheckoutDate())
+                .build());
+    }
+}
@@ -0,0 +1,38 @@
+package org.project.bookingapi.loadtest;
+
+import java.util.Arrays;
+
+// The request shapes from the Postman collection, plus the token endpoint every session starts with.
+enum Endpoint {
+    AVAILABLE_ROOMS("available", "GET /reservations/available-rooms"),
+    LIST("list", "GET /reservations"),
+    GET("get", "GET /reservations/{id}"),
+    CREATE("create", "POST /reservations"),
+    UPDATE("update", "PUT /reservations/{id}"),
+    CANCEL("cancel", "POST /reservations/{id}/cancel"),
+    PROFILE("profile", "GET /user"),
+    LOGIN("login", "POST /auth/login");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(final String key, final String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint byKey(final String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in mix: " + key));
+    }
+}
@@ -0,0 +1,175 @@
+package org.project.bookingapi.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint HDR latency histograms (microseconds) and response counts. 409 and 429 are counted apart
+ * from errors: under contention they are the expected answers, not failures. Requests that timed out or
+ * never got a response are counted apart too.
+ */
+final class LatencyReport {
+
+    // Unknown properties are ignored so a baseline from an older report format reads as not comparable.
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    // Latency changes smaller than this are noise on a developer machine and never count as regressions.
+    private static final double NOISE_FLOOR_MS = 1.0;
+    // Likewise for error rates: a rise of less than one request in a hundred is not a regression.
+    private static final double ERROR_RATE_NOISE_FLOOR = 0.01;
+
+    // Recorded in place of a status code for requests that got no response.
+    static final int FAILED = -1;
+    static final int TIMED_OUT = -2;
+
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+    }
+
+    void record(final Endpoint endpoint, final int status, final long latencyNanos) {
+        final var endpointStats = stats.get(endpoint);
+        endpointStats.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (status >= 200 && status < 300) {
+            endpointStats.succeeded.increment();
+        } else if (status == 409) {
+            endpointStats.conflicts.increment();
+        } else if (status == 429) {
+            endpointStats.shed.increment();
+        } else if (status == TIMED_OUT) {
+            endpointStats.timeouts.increment();
+        } else {
+            endpointStats.errors.increment();
+        }
+    }
+
+    // Arrivals are scheduled regardless of how the server answers, so the number of requests per second only
+    // echoes rate and mix. Goodput counts 2xx answers alone.
+    Summary summarize(final double rate, final Map<Endpoint, Integer> mix, final Duration measured) {
+        final var endpoints = new LinkedHashMap<String, EndpointSummary>();
+        stats.forEach((endpoint, endpointStats) -> {
+            final Histogram histogram = endpointStats.histogram;
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            final long count = histogram.getTotalCount();
+            final long errors = endpointStats.errors.sum();
+            final long timeouts = endpointStats.timeouts.sum();
+            endpoints.put(endpoint.key(), new EndpointSummary(
+                    endpoint.label(),
+                    count,
+                    endpointStats.succeeded.sum() / (measured.toMillis() / 1000.0),
+                    errors,
+                    timeouts,
+                    (double) (errors + timeouts) / count,
+                    endpointStats.conflicts.sum(),
+                    endpointStats.shed.sum(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        });
+        final var weights = new LinkedHashMap<String, Integer>();
+        mix.forEach((endpoint, weight) -> weights.put(endpoint.key(), weight));
+        return new Summary(rate, weights, measured.toSeconds(), endpoints);
+    }
+
+    void print(final Summary summary, final PrintStream out) {
+        out.printf("%nOpen-model load at %.0f req/s for %ds%n", summary.rate(), summary.durationSeconds());
+        out.printf("%-34s %8s %9s %6s %8s %6s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "2xx/s", "err", "timeout", "409", "429", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summary.endpoints().values().forEach(endpoint -> out.printf("%-34s %8d %9.1f %6d %8d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.label(), endpoint.count(), endpoint.goodput(), endpoint.errors(), endpoint.timeouts(), endpoint.conflicts(),
+                endpoint.shed(), endpoint.p50(), endpoint.p90(), endpoint.p99(), endpoint.p999(), endpoint.max()));
+    }
+
+    void write(final Summary summary, final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        JSON.writeValue(directory.resolve("report.json").toFile(), summary);
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            if (entry.getValue().histogram.getTotalCount() > 0) {
+                try (var out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().key() + ".hgrm")))) {
+                    entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+    }
+
+    static void saveBaseline(final Summary summary, final Path baseline) throws IOException {
+        Files.createDirectories(baseline.toAbsolutePath().getParent());
+        JSON.writeValue(baseline.toFile(), summary);
+    }
+
+    static Summary readBaseline(final Path baseline) throws IOException {
+        return JSON.readValue(baseline.toFile(), Summary.class);
+    }
+
+    // Goodput and error rates only compare between runs driven the same way.
+    static boolean comparable(final Summary baseline, final Summary current) {
+        return baseline.rate() == current.rate() && current.mix().equals(baseline.mix());
+    }
+
+    // Endpoints whose goodput fell, or whose error rate or p99 rose, by more than tolerance against the baseline.
+    static List<String> regressions(final Summary baseline, final Summary current, final double tolerance) {
+        final var regressions = new ArrayList<String>();
+        baseline.endpoints().forEach((key, before) -> {
+            final var after = current.endpoints().get(key);
+            if (after == null) {
+                return;
+            }
+            if (after.goodput() < before.goodput() * (1 - tolerance)) {
+                regressions.add("%s goodput %.1f -> %.1f 2xx/s".formatted(before.label(), before.goodput(), after.goodput()));
+            }
+            if (after.errorRate() > before.errorRate() * (1 + tolerance)
+                    && after.errorRate() - before.errorRate() > ERROR_RATE_NOISE_FLOOR) {
+                regressions.add("%s error and timeout rate %.1f%% -> %.1f%%".formatted(before.label(),
+                        before.errorRate() * 100, after.errorRate() * 100));
+            }
+            if (after.p99() > before.p99() * (1 + tolerance) && after.p99() - before.p99() > NOISE_FLOOR_MS) {
+                regressions.add("%s p99 %.2f -> %.2f ms".formatted(before.label(), before.p99(), after.p99()));
+            }
+        });
+        return regressions;
+    }
+
+    private static double millis(final long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+    }
+
+    record Summary(double rate, Map<String, Integer> mix, long durationSeconds, Map<String, EndpointSummary> endpoints) {
+    }
+
+    record EndpointSummary(String label, long count, double goodput, long errors, long timeouts, double errorRate,
+                           long conflicts, long shed, double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,176 @@
+package org.project.bookingapi.loadtest;
+
+import org.project.bookingapi.BookingApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator. Requests arrive as a Poisson process at {@code rate} regardless of how fast the
+ * server answers, each on its own virtual thread, and latency is measured from the scheduled arrival time so
+ * queueing in the client is not hidden (no coordinated omission). With {@code embedded=true} the application
+ * is started in-process against a throwaway Postgres container; otherwise {@code url} must point at a running
+ * stack, e.g. {@code docker compose up}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var settings = LoadTestSettings.parse(args);
+        PostgreSQLContainer<?> postgres = null;
+        ConfigurableApplicationContext application = null;
+        int exitCode;
+        try {
+            var url = settings.url();
+            if (settings.embedded()) {
+                postgres = new PostgreSQLContainer<>("postgres:16");
+                postgres.start();
+                application = startEmbedded(postgres);
+                url = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+            exitCode = run(settings, URI.create(url));
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Starts the application on a random port against {@code postgres}. Docker Compose support is switched off:
+     * outside JUnit it would otherwise bring up {@code docker-compose.yml} and its connection details would
+     * replace the datasource set here, so the run would measure the compose database instead.
+     */
+    static ConfigurableApplicationContext startEmbedded(final PostgreSQLContainer<?> postgres) {
+        return new SpringApplicationBuilder(BookingApiApplication.class)
+                .properties(Map.of(
+                        "spring.docker.compose.enabled", "false",
+                        "spring.datasource.url", postgres.getJdbcUrl(),
+                        "spring.datasource.username", postgres.getUsername(),
+                        "spring.datasource.password", postgres.getPassword(),
+                        "server.port", "0",
+                        "management.server.port", "0"))
+                .run();
+    }
+
+    private static int run(final LoadTestSettings settings, final URI base) throws Exception {
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+            final var workload = new Workload(settings, client, base);
+            workload.prepare();
+            System.out.printf("Driving %s with %d sessions over %d rooms%n", base, workload.sessionCount(), workload.roomCount());
+
+            final var report = new LatencyReport();
+            final var mix = new EndpointMix(settings.mix());
+            final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+            final long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+            final long end = measureFrom + settings.duration().toNanos();
+
+            long next = System.nanoTime();
+            while (next < end) {
+                final long intended = next;
+                final var call = workload.next(mix.pick());
+                executor.execute(() -> {
+                    int status;
+                    try {
+                        final var response = client.send(call.request(), HttpResponse.BodyHandlers.ofString());
+                        status = response.statusCode();
+                        if (status >= 200 && status < 300) {
+                            call.onSuccess().accept(response);
+                        }
+                    } catch (HttpTimeoutException ex) {
+                        status = LatencyReport.TIMED_OUT;
+                    } catch (Exception ex) {
+                        status = LatencyReport.FAILED;
+                    }
+                    if (intended >= measureFrom) {
+                        report.record(call.endpoint(), status, System.nanoTime() - intended);
+                    }
+                });
+                next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * intervalNanos);
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+
+            final var summary = report.summarize(settings.rate(), settings.mix(), settings.duration());
+            report.print(summary, System.out);
+            report.write(summary, settings.reportDir());
+            System.out.printf("%nReport and HDR percentile distributions written to %s%n", settings.reportDir().toAbsolutePath());
+
+            if (settings.saveBaseline()) {
+                LatencyReport.saveBaseline(summary, settings.baseline());
+                System.out.printf("Baseline saved to %s%n", settings.baseline().toAbsolutePath());
+                return 0;
+            }
+            if (!Files.exists(settings.baseline())) {
+                System.out.printf("No baseline at %s; run with save-baseline=true to record one%n", settings.baseline());
+                return 0;
+            }
+            final var baseline = LatencyReport.readBaseline(settings.baseline());
+            if (!LatencyReport.comparable(baseline, summary)) {
+                System.out.printf("Baseline %s was recorded at rate=%s mix=%s, this run used rate=%s mix=%s; "
+                                + "not comparing. Re-record it with save-baseline=true%n",
+                        settings.baseline(), baseline.rate(), baseline.mix(), summary.rate(), summary.mix());
+                return 2;
+            }
+            final var regressions = LatencyReport.regressions(baseline, summary, settings.tolerance());
+            if (regressions.isEmpty()) {
+                System.out.printf("Within %.0f%% of baseline %s%n", settings.tolerance() * 100, settings.baseline());
+                return 0;
+            }
+            System.out.printf("Regressions against baseline %s:%n", settings.baseline());
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            return 1;
+        }
+    }
+
+    private static final class EndpointMix {
+        private final Endpoint[] endpoints;
+        private final int[] cumulative;
+
+        EndpointMix(final Map<Endpoint, Integer> weights) {
+            endpoints = weights.keySet().toArray(Endpoint[]::new);
+            cumulative = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += weights.get(endpoints[i]);
+                cumulative[i] = total;
+            }
+        }
+
+        Endpoint pick() {
+            final int point = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (point < cumulative[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+    }
+}
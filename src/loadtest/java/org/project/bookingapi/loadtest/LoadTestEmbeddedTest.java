@@ -0,0 +1,30 @@
+package org.project.bookingapi.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class LoadTestEmbeddedTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Test
+    void embeddedApplication_usesTheHarnessDatabase() throws SQLException {
+        try (var application = LoadTest.startEmbedded(postgres)) {
+            assertThat(application.getEnvironment().getProperty("spring.docker.compose.enabled")).isEqualTo("false");
+            assertThat(application.getBean(JdbcConnectionDetails.class).getJdbcUrl()).isEqualTo(postgres.getJdbcUrl());
+            try (var connection = application.getBean(DataSource.class).getConnection()) {
+                assertThat(connection.getMetaData().getURL()).isEqualTo(postgres.getJdbcUrl());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.project.bookingapi.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, given on the command line as {@code key=value} pairs. Every key has a default, so
+ * an empty command line drives a local stack at 50 requests/s for a minute.
+ */
+record LoadTestSettings(
+        String url,
+        boolean embedded,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int users,
+        double roomSkew,
+        int horizonDays,
+        int maxStay,
+        Map<Endpoint, Integer> mix,
+        Path reportDir,
+        Path baseline,
+        boolean saveBaseline,
+        double tolerance) {
+
+    private static final String DEFAULT_MIX = "available=45,list=10,get=10,create=15,update=5,cancel=5,profile=5,login=5";
+
+    static LoadTestSettings parse(final String[] args) {
+        final var values = new HashMap<String, String>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestSettings(
+                values.getOrDefault("url", "http://localhost:9080"),
+                Boolean.parseBoolean(values.getOrDefault("embedded", "false")),
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Double.parseDouble(values.getOrDefault("room-skew", "1.0")),
+                Integer.parseInt(values.getOrDefault("horizon-days", "180")),
+                Integer.parseInt(values.getOrDefault("max-stay", "7")),
+                mix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("report-dir", "target/loadtest")),
+                Path.of(values.getOrDefault("baseline", "src/loadtest/resources/baseline.json")),
+                Boolean.parseBoolean(values.getOrDefault("save-baseline", "false")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.15")));
+    }
+
+    private static Map<Endpoint, Integer> mix(final String spec) {
+        final var mix = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            final var parts = entry.split(":|=");
+            mix.put(Endpoint.byKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
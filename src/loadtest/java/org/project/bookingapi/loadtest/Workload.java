@@ -0,0 +1,243 @@
+package org.project.bookingapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds requests against a running stack. Sessions are registered up front; rooms are drawn from a Zipf
+ * distribution ({@code room-skew}, 0 for uniform) and stays from a uniform window over {@code horizon-days},
+ * so skew and horizon together set how often writes contend for the same room and nights.
+ */
+final class Workload {
+
+    private static final int RECENT = 1024;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String PASSWORD = "load-test-password";
+
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final URI base;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LocalDate origin = LocalDate.now().plusDays(1);
+
+    private final List<Session> sessions = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private double[] cumulativeRoomWeights;
+
+    // Recently created reservations, overwritten in a ring, for the get/update/cancel shapes.
+    private final AtomicReferenceArray<Booking> recent = new AtomicReferenceArray<>(RECENT);
+    private final AtomicLong created = new AtomicLong();
+
+    Workload(final LoadTestSettings settings, final HttpClient client, final URI base) {
+        this.settings = settings;
+        this.client = client;
+        this.base = base;
+    }
+
+    void prepare() throws IOException, InterruptedException {
+        final var run = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextInt()).substring(0, 6);
+        for (int i = 0; i < settings.users(); i++) {
+            final var username = "lt" + run + "u" + i;
+            final var registration = objectMapper.createObjectNode()
+                    .put("username", username)
+                    .put("email", username + "@loadtest.local")
+                    .put("password", PASSWORD)
+                    .put("firstName", "Load")
+                    .put("lastName", "Test");
+            expectOk(client.send(post("/api/v1/auth/register", registration, null), HttpResponse.BodyHandlers.ofString()));
+            final var token = readTree(expectOk(client.send(login(username), HttpResponse.BodyHandlers.ofString()))).get("token").asText();
+            final var profile = readTree(expectOk(client.send(get("/api/v1/user", token), HttpResponse.BodyHandlers.ofString())));
+            sessions.add(new Session(username, UUID.fromString(profile.get("id").asText()), token));
+        }
+
+        final var far = origin.plusYears(50);
+        final var available = readTree(expectOk(client.send(
+                get("/api/v1/reservations/available-rooms?checkin=%s&checkout=%s".formatted(far, far.plusDays(1)), null),
+                HttpResponse.BodyHandlers.ofString())));
+        available.forEach(room -> rooms.add(new Room(UUID.fromString(room.get("id").asText()), room.get("roomNumber").asLong())));
+        if (rooms.isEmpty()) {
+            throw new IllegalStateException("No rooms available to book");
+        }
+
+        cumulativeRoomWeights = new double[rooms.size()];
+        double total = 0;
+        for (int rank = 0; rank < rooms.size(); rank++) {
+            total += 1 / Math.pow(rank + 1, settings.roomSkew());
+            cumulativeRoomWeights[rank] = total;
+        }
+    }
+
+    int sessionCount() {
+        return sessions.size();
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    Call next(final Endpoint endpoint) {
+        final var random = ThreadLocalRandom.current();
+        final var session = sessions.get(random.nextInt(sessions.size()));
+        return switch (endpoint) {
+            case AVAILABLE_ROOMS -> {
+                final var checkin = checkin();
+                yield new Call(endpoint, get("/api/v1/reservations/available-rooms?checkin=%s&checkout=%s"
+                        .formatted(checkin, checkin.plusDays(stay())), null), response -> {
+                });
+            }
+            case LIST -> new Call(endpoint, get("/api/v1/reservations?page=%d&size=20".formatted(random.nextInt(5)), session.token()),
+                    response -> {
+                    });
+            case GET -> withBooking(endpoint, booking -> get("/api/v1/reservations/" + booking.id(), booking.session().token()), session);
+            case CREATE -> create(session);
+            case UPDATE -> withBooking(endpoint, booking -> {
+                final var checkin = checkin();
+                final var body = reservation(booking.session(), booking.room(), checkin, checkin.plusDays(stay()))
+                        .put("id", booking.id().toString());
+                return put("/api/v1/reservations/" + booking.id(), body, booking.session().token());
+            }, session);
+            case CANCEL -> withBooking(endpoint, booking -> post("/api/v1/reservations/" + booking.id() + "/cancel", null,
+                    booking.session().token()), session);
+            case PROFILE -> new Call(endpoint, get("/api/v1/user", session.token()), response -> {
+            });
+            case LOGIN -> new Call(endpoint, login(session.username()), response -> {
+            });
+        };
+    }
+
+    private Call create(final Session session) {
+        final var room = room();
+        final var checkin = checkin();
+        final var checkout = checkin.plusDays(stay());
+        return new Call(Endpoint.CREATE, post("/api/v1/reservations", reservation(session, room, checkin, checkout), session.token()),
+                response -> {
+                    final var id = UUID.fromString(readTree(response).get("id").asText());
+                    final long slot = created.getAndIncrement() % RECENT;
+                    recent.set((int) slot, new Booking(id, session, room));
+                });
+    }
+
+    // Falls back to a create until there is something to read or change.
+    private Call withBooking(final Endpoint endpoint, final Function<Booking, HttpRequest> request,
+                             final Session session) {
+        final long count = Math.min(created.get(), RECENT);
+        final var booking = count == 0 ? null : recent.get(ThreadLocalRandom.current().nextInt((int) count));
+        if (booking == null) {
+            return create(session);
+        }
+        return new Call(endpoint, request.apply(booking), response -> {
+        });
+    }
+
+    private ObjectNode reservation(final Session session, final Room room, final LocalDate checkin, final LocalDate checkout) {
+        return objectMapper.createObjectNode()
+                .put("userId", session.userId().toString())
+                .put("roomId", room.id().toString())
+                .put("firstname", "Load")
+                .put("surname", "Test")
+                .put("roomNum", room.roomNumber())
+                .put("checkinDate", checkin.toString())
+                .put("checkoutDate", checkout.toString());
+    }
+
+    private Room room() {
+        final double point = ThreadLocalRandom.current().nextDouble(cumulativeRoomWeights[cumulativeRoomWeights.length - 1]);
+        int low = 0;
+        int high = cumulativeRoomWeights.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulativeRoomWeights[mid] <= point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return rooms.get(low);
+    }
+
+    private LocalDate checkin() {
+        return origin.plusDays(ThreadLocalRandom.current().nextInt(settings.horizonDays()));
+    }
+
+    private int stay() {
+        return 1 + ThreadLocalRandom.current().nextInt(settings.maxStay());
+    }
+
+    private HttpRequest login(final String username) {
+        return post("/api/v1/auth/login", objectMapper.createObjectNode().put("username", username).put("password", PASSWORD), null);
+    }
+
+    private HttpRequest get(final String path, final String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(final String path, final JsonNode body, final String token) {
+        return request(path, token).POST(body == null ? HttpRequest.BodyPublishers.noBody() : json(body)).build();
+    }
+
+    private HttpRequest put(final String path, final JsonNode body, final String token) {
+        return request(path, token).PUT(json(body)).build();
+    }
+
+    private HttpRequest.Builder request(final String path, final String token) {
+        final var builder = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(final JsonNode body) {
+        return HttpRequest.BodyPublishers.ofString(body.toString());
+    }
+
+    private JsonNode readTree(final HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unreadable response from " + response.uri(), ex);
+        }
+    }
+
+    private static HttpResponse<String> expectOk(final HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Setup request %s %s failed with %d: %s"
+                    .formatted(response.request().method(), response.uri(), response.statusCode(), response.body()));
+        }
+        return response;
+    }
+
+    record Session(String username, UUID userId, String token) {
+    }
+
+    record Room(UUID id, long roomNumber) {
+    }
+
+    record Booking(UUID id, Session session, Room room) {
+    }
+
+    // onSuccess runs for 2xx responses only.
+    record Call(Endpoint endpoint, HttpRequest request, Consumer<HttpResponse<String>> onSuccess) {
+    }
+}
@@ -1,22 +1,58 @@
 package org.project.bookingapi;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.project.bookingapi.config.TracingConfig;
+import org.project.bookingapi.exception.GlobalExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
-@Slf4j
+/**
+ * Method tracing for application beans. Calls are logged through the logger of the declaring type, so
+ * {@code logging.level.<package>} controls it per package: DEBUG logs sampled arguments, TRACE also logs
+ * results. Every call is timed into the {@code method.timed} timer, tagged by class, method and exception.
+ * A failure is logged once, by the outermost advised call on the thread: at WARN with its stack trace, or at
+ * DEBUG when it is an expected outcome that the exception handler answers with a 4xx.
+ */
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
 
-    @Pointcut("within(org.project.bookingapi..*)")
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(final Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    // Advised calls currently on this thread's stack, so only the outermost one logs a failure.
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final TracingConfig tracingConfig;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Pointcut("within(org.project.bookingapi..*) && !within(org.project.bookingapi.metrics..*)")
     public void basePackagePointcut() {
     }
 
@@ -34,50 +70,106 @@ public class LoggingAspect {
 
     @Around("basePackagePointcut() && (serviceAnnotationPointcut() || repositoryAnnotationPointcut() || componentAnnotationPointcut())")
     public Object logAround(final ProceedingJoinPoint joinPoint) throws Throwable {
-        log.info(
-                "Request for {}.{}() with arguments[s]={}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                Arrays.toString(joinPoint.getArgs())
-        );
+        final var signature = (MethodSignature) joinPoint.getSignature();
+        final var logger = LOGGERS.get(signature.getDeclaringType());
+        final boolean traced = logger.isDebugEnabled() && sampled();
 
-        Instant start = Instant.now();
-        Object returnValue = null;
+        if (traced) {
+            logger.debug("Request for {}() with arguments[s]={}", signature.getName(), render(joinPoint.getArgs()));
+        }
 
+        final int[] depth = DEPTH.get();
+        depth[0]++;
+        final long start = System.nanoTime();
+        Throwable failure = null;
         try {
-            returnValue = joinPoint.proceed();
-
-            if (returnValue != null) {
-                log.info(
-                        "Response for {}.{} with Result = {}",
-                        joinPoint.getSignature().getDeclaringTypeName(),
-                        joinPoint.getSignature().getName(),
-                        returnValue
-                );
-            } else {
-                log.info(
-                        "Response for {}.{} completed with EMPTY result",
-                        joinPoint.getSignature().getDeclaringTypeName(),
-                        joinPoint.getSignature().getName()
-                );
-            }
+            final Object returnValue = joinPoint.proceed();
 
+            if (traced && logger.isTraceEnabled()) {
+                logger.trace("Response for {}() with Result = {}", signature.getName(), render(returnValue));
+            }
             return returnValue;
         } catch (Throwable ex) {
-            log.error(
-                    "Response for {}.{}() with arguments[s]={} failed with cause={}, message={}",
-                    joinPoint.getSignature().getDeclaringTypeName(),
-                    joinPoint.getSignature().getName(),
-                    Arrays.toString(joinPoint.getArgs()),
-                    ex.getCause() != null ? ex.getCause() : "Unknown Exception occurred",
-                    ex.getMessage() != null ? ex.getMessage() : "Unknown"
-            );
+            failure = ex;
+            if (depth[0] == 1) {
+                logFailure(logger, signature.getName(), joinPoint, traced, ex);
+            } else if (traced) {
+                logger.debug("Response for {}() failed with {}", signature.getName(), ex.getClass().getSimpleName());
+            }
             throw ex;
         } finally {
-            log.info(
-                    "Time Taken = {} ms",
-                    Duration.between(start, Instant.now()).toMillis()
-            );
+            depth[0]--;
+            final var timer = failure == null ? timer(signature.getMethod()) : timer(signature.getMethod(), failure);
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void logFailure(final Logger logger, final String method, final ProceedingJoinPoint joinPoint,
+                            final boolean traced, final Throwable ex) {
+        if (traced) {
+            logger.debug("Response for {}() with arguments[s]={} failed", method, render(joinPoint.getArgs()), ex);
+        } else if (GlobalExceptionHandler.isClientError(ex)) {
+            logger.debug("Response for {}() failed with {}: {}", method, ex.getClass().getSimpleName(), ex.getMessage());
+        } else {
+            logger.warn("Response for {}() failed with {}: {}", method, ex.getClass().getSimpleName(), ex.getMessage(), ex);
+        }
+    }
+
+    // Successful calls hit a cached timer; failures are rare enough to go through the registry lookup.
+    private Timer timer(final Method method) {
+        final var timer = timers.get(method);
+        return timer != null ? timer : timers.computeIfAbsent(method, key -> timer(key, null));
+    }
+
+    private Timer timer(final Method method, final Throwable failure) {
+        return Timer.builder("method.timed")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private boolean sampled() {
+        final double rate = tracingConfig.getSampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    String render(final Object value) {
+        final var builder = new StringBuilder();
+        append(builder, value);
+        return builder.toString();
+    }
+
+    private void append(final StringBuilder builder, final Object value) {
+        if (value instanceof Object[] array) {
+            appendElements(builder, Arrays.asList(array).iterator(), array.length);
+        } else if (value instanceof Collection<?> collection) {
+            appendElements(builder, collection.iterator(), collection.size());
+        } else if (value instanceof Map<?, ?> map) {
+            appendElements(builder, map.entrySet().iterator(), map.size());
+        } else {
+            final var text = String.valueOf(value);
+            final int max = tracingConfig.getMaxStringLength();
+            if (text.length() > max) {
+                builder.append(text, 0, max).append("...(").append(text.length()).append(" chars)");
+            } else {
+                builder.append(text);
+            }
+        }
+    }
+
+    private void appendElements(final StringBuilder builder, final Iterator<?> elements, final int size) {
+        final int max = tracingConfig.getMaxCollectionElements();
+        builder.append('[');
+        for (int i = 0; i < max && elements.hasNext(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            append(builder, elements.next());
+        }
+        if (size > max) {
+            builder.append(", ...(+").append(size - max).append(" more)");
         }
+        builder.append(']');
     }
 }
@@ -0,0 +1,100 @@
+package org.project.bookingapi.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient concurrency limit: the limit follows {@code longRtt / shortRtt}, shrinking while recent calls are
+ * slower than the long-run baseline and growing by {@code sqrt(limit)} while they are not. Headroom is only
+ * added while the connection pool has no waiters and the limit is actually in use.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.002;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    // guarded by lock
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Records a completed call. poolSaturated is true while callers are queued for a connection.
+    public void onSuccess(final long rttNanos, final boolean poolSaturated) {
+        final int concurrent = inFlight.getAndDecrement();
+        lock.lock();
+        try {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+                return;
+            }
+            shortRtt += (rttNanos - shortRtt) * SHORT_RTT_WEIGHT;
+            longRtt += (rttNanos - longRtt) * LONG_RTT_WEIGHT;
+            // Let the baseline recover quickly after a sustained slowdown has ended.
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            final double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+            final boolean appLimited = concurrent < limit / 2;
+            final double headroom = poolSaturated || appLimited ? 0 : Math.sqrt(limit);
+            final double target = limit * gradient + headroom;
+            update(limit * (1 - SMOOTHING) + target * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Records a call that timed out or could not get a connection; backs off multiplicatively.
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            update(limit * DROP_BACKOFF);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Releases a permit without taking a sample, for calls that failed before reaching the database.
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(final double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,130 @@
+package org.project.bookingapi.admission;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.project.bookingapi.config.AdmissionControlConfig;
+import org.project.bookingapi.enums.LimitBudget;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.ErrorResponseException;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Applies the per-budget adaptive limits to {@link ConcurrencyLimited} methods. It runs outside the
+ * transaction advice, so a rejected call never borrows a connection. Nested limited calls run under the
+ * outermost call's permit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AdmissionControlAspect {
+
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+    private final AdmissionControlConfig config;
+    private final ObjectProvider<DataSource> dataSource;
+    private final Map<LimitBudget, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(LimitBudget.class);
+    private final Map<LimitBudget, Counter> rejections = new EnumMap<>(LimitBudget.class);
+
+    private volatile HikariPoolMXBean hikariPool;
+
+    public AdmissionControlAspect(final AdmissionControlConfig config, final MeterRegistry meterRegistry,
+                                  final ObjectProvider<DataSource> dataSource) {
+        this.config = config;
+        this.dataSource = dataSource;
+        for (LimitBudget budget : LimitBudget.values()) {
+            final var settings = budget == LimitBudget.READ ? config.getRead() : config.getWrite();
+            final var limiter = new AdaptiveConcurrencyLimiter(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit());
+            final var tag = budget.name().toLowerCase();
+            limiters.put(budget, limiter);
+            rejections.put(budget, Counter.builder("booking.admission.rejected")
+                    .description("Calls shed because the concurrency limit was reached")
+                    .tag("budget", tag)
+                    .register(meterRegistry));
+            Gauge.builder("booking.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("budget", tag)
+                    .register(meterRegistry);
+            Gauge.builder("booking.admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("budget", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Around("@annotation(org.project.bookingapi.admission.ConcurrencyLimited)")
+    public Object admit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!config.isEnabled() || ADMITTED.get() != null) {
+            return joinPoint.proceed();
+        }
+        final var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final var budget = method.getAnnotation(ConcurrencyLimited.class).value();
+        final var limiter = limiters.get(budget);
+        if (!limiter.tryAcquire()) {
+            rejections.get(budget).increment();
+            throw new LoadSheddingException("Too many concurrent %s requests. Please retry later."
+                    .formatted(budget.name().toLowerCase()), config.getRetryAfter());
+        }
+
+        final long start = System.nanoTime();
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            final Object result = joinPoint.proceed();
+            limiter.onSuccess(System.nanoTime() - start, poolSaturated());
+            return result;
+        } catch (TransientDataAccessException | CannotCreateTransactionException ex) {
+            limiter.onDropped();
+            throw ex;
+        } catch (ErrorResponseException ex) {
+            // Rejected by request validation before any database work, so there is no latency to learn from.
+            if (ex.getStatusCode().is4xxClientError()) {
+                limiter.onIgnored();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start, poolSaturated());
+            }
+            throw ex;
+        } catch (Throwable ex) {
+            // Conflicts and not-found still made their database round trips, so their latency counts.
+            limiter.onSuccess(System.nanoTime() - start, poolSaturated());
+            throw ex;
+        } finally {
+            ADMITTED.remove();
+        }
+    }
+
+    private boolean poolSaturated() {
+        final var pool = hikariPool();
+        return pool != null && pool.getThreadsAwaitingConnection() > 0;
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        var pool = hikariPool;
+        if (pool == null) {
+            final var source = dataSource.getIfAvailable();
+            try {
+                if (source != null && source.isWrapperFor(HikariDataSource.class)) {
+                    // Null until the pool has started; looked up again on the next call.
+                    pool = source.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                    hikariPool = pool;
+                }
+            } catch (SQLException ex) {
+                return null;
+            }
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,19 @@
+package org.project.bookingapi.admission;
+
+import org.project.bookingapi.enums.LimitBudget;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Admits calls to the annotated method only while the budget's adaptive limit has room; otherwise the call
+ * fails fast with {@link org.project.bookingapi.exception.LoadSheddingException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+    LimitBudget value();
+}
@@ -0,0 +1,38 @@
+package org.project.bookingapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.admission")
+public class AdmissionControlConfig {
+
+    private boolean enabled = true;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Budget read = new Budget(50, 10, 500);
+
+    private Budget write = new Budget(20, 4, 200);
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+    }
+}
@@ -0,0 +1,17 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.availability-index")
+public class AvailabilityIndexConfig {
+
+    private boolean enabled = true;
+
+    private int horizonDays = 365;
+}
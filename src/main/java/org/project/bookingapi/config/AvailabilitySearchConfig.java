@@ -0,0 +1,22 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.availability-search")
+public class AvailabilitySearchConfig {
+
+    private boolean coalesce = true;
+
+    // Zero disables the micro-cache; identical searches are then only shared while one is running.
+    private Duration cacheTtl = Duration.ZERO;
+
+    private long cacheSize = 1_000;
+}
@@ -0,0 +1,29 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.availability-stream")
+public class AvailabilityStreamConfig {
+
+    private int maxConnections = 10_000;
+
+    // Events queued per connection; a client that falls further behind is disconnected and resyncs on reconnect.
+    private int bufferSize = 64;
+
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Re-reads every streamed window, bounding how long changes made on other instances take to arrive.
+    private Duration resyncInterval = Duration.ofMinutes(1);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,18 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.project.bookingapi.enums.ConflictCheck;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.writes")
+public class BookingWriteConfig {
+
+    // PRE_CHECK queries for overlapping reservations before writing; CONSTRAINT_ONLY leaves it to the
+    // reservation_no_overlap exclusion constraint, saving a query per create and update.
+    private ConflictCheck conflictCheck = ConflictCheck.CONSTRAINT_ONLY;
+}
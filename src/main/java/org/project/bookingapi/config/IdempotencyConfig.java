@@ -0,0 +1,22 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.idempotency")
+public class IdempotencyConfig {
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private long cacheSize = 10_000;
+
+    // How long a duplicate waits for the original before it is answered 409; a booking takes milliseconds.
+    private Duration waitTimeout = Duration.ofSeconds(2);
+}
@@ -3,11 +3,16 @@ package org.project.bookingapi.config;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.Setter;
+import org.project.bookingapi.service.CachingJwtDecoder;
 import org.project.bookingapi.service.JwtService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -30,16 +35,30 @@ public class JwtConfig {
 
     private Duration ttl;
 
+    // Verified tokens kept to skip repeated signature checks; zero disables the cache.
+    private long decodeCacheSize = 10_000;
+
     @Bean
-    public JwtEncoder jwtEncoder() {
+    public JwtEncoder jwtEncoder(final MeterRegistry meterRegistry) {
         final var jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        final var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
 
-        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        return parameters -> timed(meterRegistry, "jwt.encode", () -> encoder.encode(parameters));
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtDecoder jwtDecoder(final MeterRegistry meterRegistry) {
+        final JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        final JwtDecoder decoder;
+        if (decodeCacheSize > 0) {
+            final var caching = new CachingJwtDecoder(nimbus, decodeCacheSize, Clock.systemUTC());
+            caching.bindTo(meterRegistry);
+            decoder = caching;
+        } else {
+            decoder = nimbus;
+        }
+
+        return token -> timed(meterRegistry, "jwt.decode", () -> decoder.decode(token));
     }
 
     @Bean
@@ -47,4 +66,15 @@ public class JwtConfig {
         return new JwtService(appName, ttl, jwtEncoder);
     }
 
+    private static <T> T timed(final MeterRegistry meterRegistry, final String name, final Supplier<T> operation) {
+        final var sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            final T result = operation.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(name, "outcome", outcome));
+        }
+    }
 }
\ No newline at end of file
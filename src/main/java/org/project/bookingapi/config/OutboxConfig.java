@@ -0,0 +1,50 @@
+package org.project.bookingapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.Setter;
+import org.project.bookingapi.enums.OutboxSinkType;
+import org.project.bookingapi.outbox.FileOutboxSink;
+import org.project.bookingapi.outbox.LoggingOutboxSink;
+import org.project.bookingapi.outbox.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.outbox")
+public class OutboxConfig {
+
+    private boolean enabled = true;
+
+    // Ignored when the application defines its own OutboxSink bean.
+    private OutboxSinkType sink = OutboxSinkType.NONE;
+
+    private Path file = Path.of("outbox", "reservation-changes.ndjson");
+
+    private int batchSize = 500;
+
+    // Published rows older than this are purged; feed consumers further behind miss them.
+    private Duration retention = Duration.ofDays(7);
+
+    private Duration longPollTimeout = Duration.ofSeconds(25);
+
+    private int maxPageSize = 500;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxSink outboxSink(final ObjectMapper objectMapper) {
+        return switch (sink) {
+            case NONE -> changes -> {
+            };
+            case LOG -> new LoggingOutboxSink();
+            case FILE -> new FileOutboxSink(file, objectMapper);
+        };
+    }
+}
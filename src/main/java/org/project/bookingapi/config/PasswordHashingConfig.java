@@ -0,0 +1,31 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.password-hashing")
+public class PasswordHashingConfig {
+
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private int queueCapacity = 100;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // BCrypt log rounds. Zero picks the highest strength between min and max that hashes within target at startup;
+    // instances on different hardware would then pick different strengths, so pin the logged value for production.
+    private int strength = 10;
+
+    private int minStrength = 10;
+
+    private int maxStrength = 14;
+
+    private Duration target = Duration.ofMillis(200);
+}
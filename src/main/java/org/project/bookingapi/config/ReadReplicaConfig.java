@@ -0,0 +1,89 @@
+package org.project.bookingapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.project.bookingapi.datasource.ReplicaRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus one pool per replica. Connections are handed out
+ * lazily, so the first statement of a {@code @Transactional(readOnly = true)} transaction can still be routed to
+ * a replica; everything else, including Flyway, goes to the primary.
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.read-replicas")
+@ConditionalOnProperty(prefix = "booking.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind the primary than this are skipped.
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private int poolSize = 10;
+
+    @Setter
+    @Getter
+    public static class Replica {
+        private String url;
+        // Default to the primary's credentials.
+        private String username;
+        private String password;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(final HikariDataSource primaryDataSource,
+                                                             final DataSourceProperties properties) {
+        final var pools = new ArrayList<HikariDataSource>();
+        for (int i = 0; i < replicas.size(); i++) {
+            final var replica = replicas.get(i);
+            final var pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword())
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setSchema(primaryDataSource.getSchema());
+            pool.setReadOnly(true);
+            pools.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, maxLag, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primaryDataSource, final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        final var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
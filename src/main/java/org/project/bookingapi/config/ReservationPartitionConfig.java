@@ -0,0 +1,23 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Period;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.reservation-partitions")
+public class ReservationPartitionConfig {
+
+    private boolean enabled = true;
+
+    // Month partitions kept ready beyond the current one; later check-ins wait in the default partition.
+    private int premakeMonths = 24;
+
+    // Month partitions that ended longer ago are detached into booking_archive. Unset to keep them all attached.
+    private Period archiveAfter = Period.ofYears(3);
+}
@@ -2,6 +2,8 @@ package org.project.bookingapi.config;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.project.bookingapi.service.BoundedPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +32,11 @@ public class SecurityConfig {
                                 "/api/v1/reservations/available-rooms",
                                 "/api/v1/reservations/available-rooms/**"
                         ).permitAll()
+                        // Actuator endpoints only exist on management.server.port, which is not published publicly.
+                        .requestMatchers(
+                                "/actuator/health",
+                                "/actuator/prometheus"
+                        ).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
@@ -48,7 +55,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(final PasswordHashingConfig config, final MeterRegistry meterRegistry) {
+        final int strength = config.getStrength() > 0
+                ? config.getStrength()
+                : BoundedPasswordEncoder.calibrateStrength(config.getMinStrength(), config.getMaxStrength(), config.getTarget());
+        final var encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                config.getThreads(), config.getQueueCapacity(), config.getRetryAfter());
+        encoder.bindTo(meterRegistry);
+        return encoder;
     }
 }
\ No newline at end of file
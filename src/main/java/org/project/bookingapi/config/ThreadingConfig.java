@@ -0,0 +1,27 @@
+package org.project.bookingapi.config;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class ThreadingConfig {
+
+    // Applied by Boot to the application task executor, which also runs async MVC work such as streamed responses.
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            final var mdc = MDC.getCopyOfContextMap();
+            return () -> {
+                if (ObjectUtils.isNotEmpty(mdc)) MDC.setContextMap(mdc);
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.tracing")
+public class TracingConfig {
+
+    private double sampleRate = 1.0;
+
+    private int maxCollectionElements = 10;
+
+    private int maxStringLength = 256;
+}
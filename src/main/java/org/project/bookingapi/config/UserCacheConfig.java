@@ -0,0 +1,24 @@
+package org.project.bookingapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "booking.user-cache")
+public class UserCacheConfig {
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private long maximumSize = 10_000;
+
+    // Unknown usernames get their own, shorter-lived and capped cache so lookups of random names cannot evict real accounts.
+    private Duration unknownTtl = Duration.ofSeconds(30);
+
+    private long unknownMaximumSize = 10_000;
+}
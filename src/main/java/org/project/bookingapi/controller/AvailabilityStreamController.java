@@ -0,0 +1,28 @@
+package org.project.bookingapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.service.AvailabilityBroadcaster;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reservations")
+public class AvailabilityStreamController {
+
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+
+    @GetMapping(value = "/available-rooms/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailableRooms(@RequestParam("checkin") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate checkin,
+                                           @RequestParam("checkout") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate checkout) {
+        AvailabilityWindow.check(checkin, checkout);
+        return availabilityBroadcaster.subscribe(checkin, checkout);
+    }
+}
@@ -0,0 +1,26 @@
+package org.project.bookingapi.controller;
+
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.exception.ValidationException;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// Checked before any search: the native availability query builds daterange(checkin, checkout), which Postgres
+// rejects for reversed dates, and no stay longer than MAX_STAY_NIGHTS can be booked anyway.
+final class AvailabilityWindow {
+
+    private AvailabilityWindow() {
+    }
+
+    static void check(final LocalDate checkin, final LocalDate checkout) {
+        if (!checkin.isBefore(checkout)) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST, Map.of("checkout", "Checkout date must be after checkin date"));
+        }
+        if (checkout.isAfter(checkin.plusDays(Reservation.MAX_STAY_NIGHTS))) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST,
+                    Map.of("checkout", "A stay can be at most %d nights".formatted(Reservation.MAX_STAY_NIGHTS)));
+        }
+    }
+}
@@ -2,10 +2,17 @@ package org.project.bookingapi.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.enums.BatchItemStatus;
+import org.project.bookingapi.exception.ValidationException;
 import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.model.request.BatchReservationRequest;
 import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.BatchReservationResponse;
+import org.project.bookingapi.model.response.ReservationPageResponse;
 import org.project.bookingapi.model.response.ReservationResponse;
 import org.project.bookingapi.service.BookingService;
+import org.project.bookingapi.service.IdempotencyService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -13,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Validated
@@ -21,11 +29,35 @@ import java.util.UUID;
 @RequestMapping("/api/v1/reservations")
 public class BookingController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<ReservationResponse> createReservation(@Valid @RequestBody final ReservationRequest reservationRequest) {
-        return ResponseEntity.status(201).body(bookingService.createReservation(reservationRequest));
+    public ResponseEntity<ReservationResponse> createReservation(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+                                                                 @Valid @RequestBody final ReservationRequest reservationRequest) {
+        // Checked here rather than with @Size: a method-validation failure is a ConstraintViolationException,
+        // which the exception handler answers with 409.
+        if (idempotencyKey != null && idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST,
+                    Map.of(IDEMPOTENCY_KEY, "Must be at most %d characters".formatted(MAX_IDEMPOTENCY_KEY_LENGTH)));
+        }
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(201).body(bookingService.createReservation(reservationRequest));
+        }
+        final var result = idempotencyService.createReservation(idempotencyKey, reservationRequest);
+        return ResponseEntity.status(201)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(result.replayed()))
+                .body(result.response());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchReservationResponse> createReservations(@Valid @RequestBody final BatchReservationRequest batchReservationRequest) {
+        final var response = bookingService.createReservations(batchReservationRequest);
+        return ResponseEntity.status(batchStatus(response)).body(response);
     }
 
     @PutMapping("/{id}")
@@ -53,14 +85,53 @@ public class BookingController {
         return bookingService.getAllReservationsByUser(id, page, size);
     }
 
+    @GetMapping("/scroll")
+    public ReservationPageResponse scrollReservations(@RequestParam(required = false) final String cursor,
+                                                      @RequestParam(defaultValue = "20") final int size) {
+        return bookingService.scrollReservations(cursor, size);
+    }
+
+    @GetMapping("/user/{id}/scroll")
+    public ReservationPageResponse scrollReservations(@PathVariable("id") final UUID id,
+                                                      @RequestParam(required = false) final String cursor,
+                                                      @RequestParam(defaultValue = "20") final int size) {
+        return bookingService.scrollReservationsByUser(id, cursor, size);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ReservationResponse> getById(@PathVariable("id") final UUID id) {
         return ResponseEntity.ok(bookingService.getReservationById(id));
     }
 
+    @GetMapping(value = "/rooms", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<RoomsDto> getRooms() {
+        return bookingService.getRooms();
+    }
+
+    @GetMapping(value = "/rooms/{roomNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RoomsDto getRoomByNumber(@PathVariable("roomNumber") final Long roomNumber) {
+        return bookingService.getRoomByNumber(roomNumber);
+    }
+
     @GetMapping(value = "/available-rooms", produces = MediaType.APPLICATION_JSON_VALUE)
     public List<RoomsDto> getAvailableRooms(@RequestParam("checkin") final String checkin,
                                             @RequestParam("checkout") final String checkout) {
-        return bookingService.getAvailableRooms(LocalDate.parse(checkin), LocalDate.parse(checkout));
+        final var checkinDate = LocalDate.parse(checkin);
+        final var checkoutDate = LocalDate.parse(checkout);
+        AvailabilityWindow.check(checkinDate, checkoutDate);
+        return bookingService.getAvailableRooms(checkinDate, checkoutDate);
+    }
+
+    // Nothing created: 409 only if an item lost to another booking (SKIPPED items only stand behind other failures);
+    // a batch rejected for invalid dates or unknown rooms would fail again on retry, so it is 422.
+    private static HttpStatus batchStatus(final BatchReservationResponse response) {
+        if (response.failed() == 0) {
+            return HttpStatus.CREATED;
+        }
+        if (response.created() > 0) {
+            return HttpStatus.MULTI_STATUS;
+        }
+        return response.items().stream().anyMatch(item -> item.status() == BatchItemStatus.CONFLICT)
+                ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY;
     }
-}
\ No newline at end of file
+}
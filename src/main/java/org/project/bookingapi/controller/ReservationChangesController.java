@@ -0,0 +1,29 @@
+package org.project.bookingapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.model.response.ReservationChangesResponse;
+import org.project.bookingapi.service.ReservationChangeFeed;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reservations")
+public class ReservationChangesController {
+
+    private final ReservationChangeFeed reservationChangeFeed;
+
+    // Pass the returned nextCursor as since on the next call; wait=PT0S returns immediately, and longer waits than
+    // booking.outbox.long-poll-timeout are cut to it.
+    @GetMapping("/changes")
+    public DeferredResult<ReservationChangesResponse> changes(@RequestParam(defaultValue = "0") final long since,
+                                                              @RequestParam(defaultValue = "100") final int limit,
+                                                              @RequestParam(required = false) final Duration wait) {
+        return reservationChangeFeed.poll(since, limit, wait);
+    }
+}
@@ -0,0 +1,46 @@
+package org.project.bookingapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ExportFormat;
+import org.project.bookingapi.service.ReservationExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reservations")
+public class ReservationExportController {
+
+    private final ReservationExportService reservationExportService;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+                                                        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+                                                        @RequestParam(value = "status", required = false) final Set<BookingStatusType> statuses,
+                                                        @RequestParam(defaultValue = "NDJSON") final ExportFormat format) {
+        final var filter = statuses == null || statuses.isEmpty() ? EnumSet.allOf(BookingStatusType.class) : statuses;
+        final StreamingResponseBody body = outputStream -> {
+            final long rows = reservationExportService.export(from, to, filter, format, outputStream);
+            log.info("Exported {} reservation(s) between {} and {} as {}", rows, from, to, format);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations-%s-%s.%s\"".formatted(from, to, format.getExtension()))
+                .body(body);
+    }
+}
@@ -0,0 +1,203 @@
+package org.project.bookingapi.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-only connections from the freshest-enough replica, falling back to the primary. Each check samples the
+ * primary's WAL position and each replica's replay position; a replica is fresh as of the newest primary sample
+ * it has replayed past, i.e. it holds every transaction committed before that sample was taken. Reads need a
+ * replica fresh within {@code max-lag}, and a user who booked within that window additionally needs one fresh
+ * as of their commit, so they always read their own writes.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Clock clock;
+
+    // Username -> commit time of their latest booking change, kept only as long as it can affect routing.
+    private final Cache<String, Instant> recentWriters;
+    // Only touched by checkLag, which the scheduler never runs concurrently with itself.
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(final DataSource primary, final List<HikariDataSource> replicas,
+                                    final Duration maxLag, final Clock clock) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.clock = clock;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(maxLag)
+                .build();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    DataSource route() {
+        Instant required = clock.instant().minus(maxLag);
+        final var user = currentUser();
+        final var written = user == null ? null : recentWriters.getIfPresent(user);
+        if (written != null && written.isAfter(required)) {
+            required = written;
+        }
+        final int size = replicas.size();
+        final int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            final var replica = replicas.get((start + i) % size);
+            final var freshAsOf = replica.freshAsOf;
+            if (freshAsOf != null && !freshAsOf.isBefore(required)) {
+                replicaReads.increment();
+                return replica.dataSource;
+            }
+        }
+        primaryReads.increment();
+        return primary;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        final var user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, clock.instant());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.read-replicas.check-interval:PT1S}")
+    public void checkLag() {
+        final var now = clock.instant();
+        try {
+            samples.addFirst(new Sample(now, parseLsn(queryLsn(primary, "select pg_current_wal_lsn()::text"))));
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Could not read the primary WAL position, replica freshness not updated", ex);
+            return;
+        }
+        final var oldest = now.minus(maxLag.multipliedBy(2));
+        while (samples.size() > 1 && samples.peekLast().time().isBefore(oldest)) {
+            samples.removeLast();
+        }
+
+        for (Replica replica : replicas) {
+            try {
+                final var replayed = queryLsn(replica.dataSource, "select pg_last_wal_replay_lsn()::text");
+                if (replayed == null) {
+                    log.warn("{} is not in recovery, not routing reads to it", replica.dataSource.getPoolName());
+                    replica.freshAsOf = null;
+                    continue;
+                }
+                replica.freshAsOf = freshAsOf(parseLsn(replayed), replica.freshAsOf);
+            } catch (SQLException | RuntimeException ex) {
+                // Leave freshAsOf as is; it ages past max-lag and the replica drops out of rotation on its own.
+                log.debug("Could not read the replay position of {}", replica.dataSource.getPoolName(), ex);
+            }
+        }
+    }
+
+    private Instant freshAsOf(final long replayed, final Instant previous) {
+        final Iterator<Sample> newestFirst = samples.iterator();
+        while (newestFirst.hasNext()) {
+            final var sample = newestFirst.next();
+            if (sample.lsn() <= replayed) {
+                return previous == null || sample.time().isAfter(previous) ? sample.time() : previous;
+            }
+        }
+        return previous;
+    }
+
+    private static String queryLsn(final DataSource dataSource, final String sql) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    // A pg_lsn prints as two hex halves of a 64-bit WAL position, e.g. 16/B374D848.
+    static long parseLsn(final String lsn) {
+        final int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    private static String currentUser() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("booking.datasource.replica.staleness", replica,
+                            r -> r.freshAsOf == null ? Double.NaN : Duration.between(r.freshAsOf, clock.instant()).toMillis() / 1000.0)
+                    .description("Seconds of primary commits a replica may not have replayed yet")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.dataSource.getPoolName())
+                    .register(registry);
+        }
+        FunctionCounter.builder("booking.datasource.reads", replicaReads, LongAdder::sum)
+                .description("Read-only connections, by the pool that served them")
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("booking.datasource.reads", primaryReads, LongAdder::sum)
+                .description("Read-only connections, by the pool that served them")
+                .tag("target", "primary")
+                .register(registry);
+    }
+
+    private record Sample(Instant time, long lsn) {
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile Instant freshAsOf;
+
+        Replica(final HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.project.bookingapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(schema = "booking", name = "idempotency_key")
+@Entity(name = "idempotency_key")
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    @Column(name = "request_hash")
+    private String requestHash;
+
+    @Column(name = "response")
+    private String response;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -21,6 +21,10 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class Reservation {
 
+    // Enforced by the reservation_max_stay check. Lets date-range queries bound checkin_date from below, so
+    // Postgres only scans the partitions a stay in the range could have started in.
+    public static final int MAX_STAY_NIGHTS = 365;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -47,14 +51,14 @@ public class Reservation {
     private LocalDate checkoutDate;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "status")
+    @Column(name = "status", nullable = false)
     private BookingStatusType status;
 
     @Version
     private Long version;
 
     @CreatedDate
-    @Column(name = "created_date")
+    @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
 
     @LastModifiedDate
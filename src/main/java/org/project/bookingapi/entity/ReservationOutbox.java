@@ -0,0 +1,51 @@
+package org.project.bookingapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.project.bookingapi.enums.ReservationChangeType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(schema = "booking", name = "reservation_outbox")
+@Entity(name = "reservation_outbox")
+public class ReservationOutbox {
+
+    // Pooled sequence rather than IDENTITY, so the rows written for a batch booking are inserted as one JDBC batch.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_outbox_id")
+    @SequenceGenerator(name = "reservation_outbox_id", schema = "booking", sequenceName = "reservation_outbox_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "reservation_id")
+    private UUID reservationId;
+
+    @Column(name = "room_id")
+    private UUID roomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type")
+    private ReservationChangeType type;
+
+    @Column(name = "checkin_date")
+    private LocalDate checkinDate;
+
+    @Column(name = "checkout_date")
+    private LocalDate checkoutDate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sequence_number")
+    private Long sequenceNumber;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -3,6 +3,7 @@ package org.project.bookingapi.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.RoomsChangeListener;
 
 import java.util.UUID;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(schema = "booking")
 @Entity(name = "rooms")
+@EntityListeners(RoomsChangeListener.class)
 public class Rooms {
 
     @Id
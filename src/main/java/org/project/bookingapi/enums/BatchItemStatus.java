@@ -0,0 +1,9 @@
+package org.project.bookingapi.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    CONFLICT,
+    NOT_FOUND,
+    INVALID,
+    SKIPPED
+}
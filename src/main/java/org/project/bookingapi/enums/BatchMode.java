@@ -0,0 +1,6 @@
+package org.project.bookingapi.enums;
+
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
@@ -0,0 +1,14 @@
+package org.project.bookingapi.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+}
@@ -0,0 +1,6 @@
+package org.project.bookingapi.enums;
+
+public enum LimitBudget {
+    READ,
+    WRITE
+}
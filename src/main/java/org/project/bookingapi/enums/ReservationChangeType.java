@@ -0,0 +1,7 @@
+package org.project.bookingapi.enums;
+
+public enum ReservationChangeType {
+    CREATED,
+    UPDATED,
+    CANCELLED
+}
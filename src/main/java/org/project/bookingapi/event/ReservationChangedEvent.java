@@ -0,0 +1,48 @@
+package org.project.bookingapi.event;
+
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.enums.BookingStatusType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ReservationChangedEvent(
+        UUID reservationId,
+        UUID roomId,
+        LocalDate previousCheckin,
+        LocalDate previousCheckout,
+        LocalDate checkin,
+        LocalDate checkout,
+        BookingStatusType status) {
+
+    public static ReservationChangedEvent created(final Reservation reservation) {
+        return new ReservationChangedEvent(reservation.getId(), reservation.getRoomId(), null, null,
+                reservation.getCheckinDate(), reservation.getCheckoutDate(), reservation.getStatus());
+    }
+
+    // A cancelled reservation held no nights before its dates changed, so it has no previous period to release.
+    public static ReservationChangedEvent updated(final Reservation reservation,
+                                                  final LocalDate previousCheckin,
+                                                  final LocalDate previousCheckout) {
+        if (reservation.getStatus() == BookingStatusType.CANCELLED) {
+            return new ReservationChangedEvent(reservation.getId(), reservation.getRoomId(), null, null,
+                    reservation.getCheckinDate(), reservation.getCheckoutDate(), reservation.getStatus());
+        }
+        return new ReservationChangedEvent(reservation.getId(), reservation.getRoomId(), previousCheckin, previousCheckout,
+                reservation.getCheckinDate(), reservation.getCheckoutDate(), reservation.getStatus());
+    }
+
+    public static ReservationChangedEvent cancelled(final Reservation reservation) {
+        return new ReservationChangedEvent(reservation.getId(), reservation.getRoomId(),
+                reservation.getCheckinDate(), reservation.getCheckoutDate(),
+                reservation.getCheckinDate(), reservation.getCheckoutDate(), BookingStatusType.CANCELLED);
+    }
+
+    public boolean hasPreviousPeriod() {
+        return previousCheckin != null && previousCheckout != null;
+    }
+
+    public boolean isActive() {
+        return status != BookingStatusType.CANCELLED;
+    }
+}
@@ -0,0 +1,28 @@
+package org.project.bookingapi.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.entity.Rooms;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link Rooms}, instantiated by Spring through Hibernate's bean container. Publishes a
+ * {@link RoomsChangedEvent} for every room written through JPA; changes made outside the application reach
+ * the room catalog on its scheduled refresh.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomsChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(final Rooms room) {
+        eventPublisher.publishEvent(new RoomsChangedEvent(room.getId()));
+    }
+}
@@ -0,0 +1,6 @@
+package org.project.bookingapi.event;
+
+import java.util.UUID;
+
+public record RoomsChangedEvent(UUID roomId) {
+}
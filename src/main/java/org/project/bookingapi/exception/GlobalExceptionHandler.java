@@ -3,10 +3,12 @@ package org.project.bookingapi.exception;
 import jakarta.validation.ConstraintViolationException;
 import org.project.bookingapi.model.ApiError;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
+import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
@@ -39,6 +41,58 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(RoomAlreadyBookedException.class)
+    public ResponseEntity<ApiError> handleRoomAlreadyBooked(final RoomAlreadyBookedException roomAlreadyBookedException) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiError.builder()
+                        .timestamp(Instant.now())
+                        .status(HttpStatus.CONFLICT.value())
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(roomAlreadyBookedException.getMessage())
+                        .traceId(MDC.get(TRACE_ID))
+                        .build());
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyReused(final IdempotencyKeyReusedException idempotencyKeyReusedException) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiError.builder()
+                        .timestamp(Instant.now())
+                        .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                        .error(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase())
+                        .message(idempotencyKeyReusedException.getMessage())
+                        .traceId(MDC.get(TRACE_ID))
+                        .build());
+    }
+
+    @ExceptionHandler(IdempotencyKeyInFlightException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyInFlight(final IdempotencyKeyInFlightException idempotencyKeyInFlightException) {
+        final long retryAfterSeconds = Math.max(1, (idempotencyKeyInFlightException.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiError.builder()
+                        .timestamp(Instant.now())
+                        .status(HttpStatus.CONFLICT.value())
+                        .error(HttpStatus.CONFLICT.getReasonPhrase())
+                        .message(idempotencyKeyInFlightException.getMessage())
+                        .traceId(MDC.get(TRACE_ID))
+                        .build());
+    }
+
+    @ExceptionHandler(LoadSheddingException.class)
+    public ResponseEntity<ApiError> handleLoadShedding(final LoadSheddingException loadSheddingException) {
+        final long retryAfterSeconds = Math.max(1, (loadSheddingException.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiError.builder()
+                        .timestamp(Instant.now())
+                        .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                        .message(loadSheddingException.getMessage())
+                        .traceId(MDC.get(TRACE_ID))
+                        .build());
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiError> handleNotFound(final ResourceNotFoundException resourceNotFoundException) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -51,13 +105,32 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(ErrorResponseException.class)
+    public ResponseEntity<ProblemDetail> handleErrorResponse(final ErrorResponseException errorResponseException) {
+        return ResponseEntity.status(errorResponseException.getStatusCode())
+                .body(errorResponseException.getBody());
+    }
+
+    // True for the exceptions answered above with a 4xx: expected outcomes of a request rather than faults.
+    public static boolean isClientError(final Throwable throwable) {
+        return throwable instanceof ConstraintViolationException
+                || throwable instanceof BookingConflictException
+                || throwable instanceof RoomAlreadyBookedException
+                || throwable instanceof IdempotencyKeyReusedException
+                || throwable instanceof IdempotencyKeyInFlightException
+                || throwable instanceof LoadSheddingException
+                || throwable instanceof ResourceNotFoundException
+                || throwable instanceof ErrorResponseException errorResponseException
+                && errorResponseException.getStatusCode().is4xxClientError();
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleAll(final Exception exception) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiError.builder()
                         .timestamp(Instant.now())
                         .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                        .error(HttpStatus.NOT_FOUND.getReasonPhrase())
+                        .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
                         .message(exception.getMessage())
                         .traceId(MDC.get(TRACE_ID))
                         .build());
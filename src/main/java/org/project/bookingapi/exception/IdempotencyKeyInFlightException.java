@@ -0,0 +1,16 @@
+package org.project.bookingapi.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class IdempotencyKeyInFlightException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IdempotencyKeyInFlightException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,16 @@
+package org.project.bookingapi.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class LoadSheddingException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoadSheddingException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
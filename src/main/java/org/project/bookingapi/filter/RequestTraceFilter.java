@@ -20,6 +20,10 @@ public class RequestTraceFilter implements Filter {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         String traceId = UUID.randomUUID().toString();
         MDC.put("traceId", traceId);
-        chain.doFilter(request, response);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove("traceId");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.project.bookingapi.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.project.bookingapi.model.ReservationChange;
+
+@Mapper
+public interface ReservationChangeMapper {
+    ReservationChangeMapper INSTANCE = Mappers.getMapper(ReservationChangeMapper.class);
+
+    ReservationChange map(ReservationOutbox outbox);
+}
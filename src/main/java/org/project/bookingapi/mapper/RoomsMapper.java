@@ -0,0 +1,13 @@
+package org.project.bookingapi.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.model.RoomsDto;
+
+@Mapper
+public interface RoomsMapper {
+    RoomsMapper INSTANCE = Mappers.getMapper(RoomsMapper.class);
+
+    RoomsDto map(Rooms rooms);
+}
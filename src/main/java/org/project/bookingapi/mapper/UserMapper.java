@@ -3,6 +3,7 @@ package org.project.bookingapi.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 import org.project.bookingapi.entity.Users;
+import org.project.bookingapi.model.UserAccount;
 import org.project.bookingapi.model.UserProfileDto;
 
 @Mapper
@@ -10,4 +11,8 @@ public interface UserMapper {
     UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
 
     UserProfileDto map(Users users);
+
+    UserProfileDto map(UserAccount userAccount);
+
+    UserAccount toAccount(Users users);
 }
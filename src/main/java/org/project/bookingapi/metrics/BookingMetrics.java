@@ -0,0 +1,48 @@
+package org.project.bookingapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Booking-specific meters. Meters are registered once up front so the hot path only increments.
+ */
+@Component
+public class BookingMetrics {
+
+    public enum ConflictCause {
+        BOOKING_CONFLICT,
+        ROOM_ALREADY_BOOKED,
+        OPTIMISTIC_LOCK
+    }
+
+    private final Map<ConflictCause, Counter> conflicts = new EnumMap<>(ConflictCause.class);
+    private final DistributionSummary availableRooms;
+
+    public BookingMetrics(final MeterRegistry meterRegistry) {
+        for (ConflictCause cause : ConflictCause.values()) {
+            conflicts.put(cause, Counter.builder("booking.conflicts")
+                    .description("Reservation writes rejected because of a conflicting booking")
+                    .tag("cause", cause.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        availableRooms = DistributionSummary.builder("booking.availability.results")
+                .description("Number of rooms returned by an availability search")
+                .baseUnit("rooms")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry);
+    }
+
+    public void conflict(final ConflictCause cause) {
+        conflicts.get(cause).increment();
+    }
+
+    public void availableRooms(final int count) {
+        availableRooms.record(count);
+    }
+}
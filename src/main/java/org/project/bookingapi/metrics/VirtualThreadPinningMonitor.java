@@ -0,0 +1,89 @@
+package org.project.bookingapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Watches the JFR {@code jdk.VirtualThreadPinned} event, which fires when a virtual thread blocks while
+ * holding a monitor and so keeps its carrier thread. Every pin is timed; the first pin at each call site is
+ * logged with its stack so the offending {@code synchronized} block can be found.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry,
+                                       @Value("${booking.virtual-threads.pinned-threshold:20ms}") final Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    void onPinned(final RecordedEvent event) {
+        pinned.record(event.getDuration());
+        final var stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+        final var frames = stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(MAX_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .toList();
+        if (frames.isEmpty()) {
+            return;
+        }
+        // Key by the first application or library frame; the top frames are usually JDK park/wait internals.
+        final var site = frames.stream()
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(frames.get(0));
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}; further pins at this site are only counted in jvm.threads.virtual.pinned\n\tat {}",
+                    event.getDuration().toMillis(), site, frames.stream().collect(Collectors.joining("\n\tat ")));
+        }
+    }
+}
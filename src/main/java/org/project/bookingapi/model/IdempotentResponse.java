@@ -0,0 +1,8 @@
+package org.project.bookingapi.model;
+
+import org.project.bookingapi.model.response.ReservationResponse;
+
+public record IdempotentResponse(
+        ReservationResponse response,
+        boolean replayed) {
+}
@@ -0,0 +1,20 @@
+package org.project.bookingapi.model;
+
+import lombok.Builder;
+import org.project.bookingapi.enums.ReservationChangeType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+public record ReservationChange(
+        long sequenceNumber,
+        UUID reservationId,
+        UUID roomId,
+        ReservationChangeType type,
+        LocalDate checkinDate,
+        LocalDate checkoutDate,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,41 @@
+package org.project.bookingapi.model;
+
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Position after the last reservation of a page, in (createdDate, id) order. Clients treat the encoded
+ * form as an opaque token.
+ */
+public record ReservationCursor(
+        LocalDateTime createdDate,
+        UUID id) {
+
+    public static ReservationCursor of(final Reservation reservation) {
+        return new ReservationCursor(reservation.getCreatedDate(), reservation.getId());
+    }
+
+    public static ReservationCursor decode(final String token) {
+        try {
+            final var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = value.indexOf('|');
+            return new ReservationCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new ValidationException(BAD_REQUEST, Map.of("cursor", "Invalid or expired cursor"));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package org.project.bookingapi.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ReservationPeriod(
+        UUID reservationId,
+        UUID roomId,
+        LocalDate checkinDate,
+        LocalDate checkoutDate) {
+}
@@ -0,0 +1,10 @@
+package org.project.bookingapi.model;
+
+import lombok.Builder;
+
+@Builder
+public record RoomAvailabilityChange(
+        RoomsDto room,
+        boolean available
+) {
+}
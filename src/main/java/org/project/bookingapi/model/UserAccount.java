@@ -0,0 +1,16 @@
+package org.project.bookingapi.model;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+// Immutable copy of a users row, safe to share from the user cache.
+@Builder
+public record UserAccount(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        String username,
+        String password) {
+}
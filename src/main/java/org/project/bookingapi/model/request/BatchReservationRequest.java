@@ -0,0 +1,17 @@
+package org.project.bookingapi.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import org.project.bookingapi.enums.BatchMode;
+
+import java.util.List;
+
+@Builder
+public record BatchReservationRequest(
+        @NotNull BatchMode mode,
+        @NotEmpty @Size(max = 500) List<@Valid @NotNull ReservationRequest> reservations
+) {
+}
@@ -0,0 +1,13 @@
+package org.project.bookingapi.model.response;
+
+import lombok.Builder;
+import org.project.bookingapi.enums.BatchItemStatus;
+
+@Builder
+public record BatchReservationItem(
+        int index,
+        BatchItemStatus status,
+        ReservationResponse reservation,
+        String message
+) {
+}
@@ -0,0 +1,15 @@
+package org.project.bookingapi.model.response;
+
+import lombok.Builder;
+import org.project.bookingapi.enums.BatchMode;
+
+import java.util.List;
+
+@Builder
+public record BatchReservationResponse(
+        BatchMode mode,
+        int created,
+        int failed,
+        List<BatchReservationItem> items
+) {
+}
@@ -0,0 +1,13 @@
+package org.project.bookingapi.model.response;
+
+import lombok.Builder;
+import org.project.bookingapi.model.ReservationChange;
+
+import java.util.List;
+
+@Builder
+public record ReservationChangesResponse(
+        List<ReservationChange> items,
+        long nextCursor
+) {
+}
@@ -0,0 +1,12 @@
+package org.project.bookingapi.model.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ReservationPageResponse(
+        List<ReservationResponse> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,44 @@
+package org.project.bookingapi.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.project.bookingapi.model.ReservationChange;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each change as one JSON line, for local development and tests. A redelivered batch is appended
+ * again, so readers should skip sequence numbers they have already seen.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(final Path file, final ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(final List<ReservationChange> changes) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            final var lines = new StringBuilder();
+            for (ReservationChange change : changes) {
+                lines.append(objectMapper.writeValueAsString(change)).append('\n');
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
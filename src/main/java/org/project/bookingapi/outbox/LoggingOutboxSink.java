@@ -0,0 +1,17 @@
+package org.project.bookingapi.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.model.ReservationChange;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(final List<ReservationChange> changes) {
+        changes.forEach(change -> log.info("Reservation change #{}: {} {} in room {} from {} to {}",
+                change.sequenceNumber(), change.type(), change.reservationId(), change.roomId(),
+                change.checkinDate(), change.checkoutDate()));
+    }
+}
@@ -0,0 +1,117 @@
+package org.project.bookingapi.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.config.OutboxConfig;
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.project.bookingapi.mapper.ReservationChangeMapper;
+import org.project.bookingapi.repository.ReservationOutboxRepository;
+import org.project.bookingapi.service.ReservationChangeFeed;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Drains the outbox in two steps, each in its own transaction under a database-wide advisory lock: new rows
+ * get sequence numbers in commit order (which makes them visible to the change feed), then sequenced rows are
+ * handed to the {@link OutboxSink} in batches. A failing sink therefore delays publication but not the feed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay implements MeterBinder {
+
+    static final long LOCK_KEY = 0x626f6f6b696e67L;
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final OutboxSink outboxSink;
+    private final ReservationChangeFeed reservationChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxConfig config;
+
+    private final LongAdder sequenced = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Scheduled(fixedDelayString = "${booking.outbox.relay-interval:PT1S}")
+    public void relay() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            drain(this::sequenceBatch);
+            drain(this::publishBatch);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Outbox relay failed, retrying on the next run", ex);
+        } finally {
+            // Also wakes waiters on instances that did not get the lock, so they see other instances' changes.
+            reservationChangeFeed.changesAvailable();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.purge-interval:PT1H}",
+            initialDelayString = "${booking.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        final int purged = reservationOutboxRepository.deletePublishedBefore(LocalDateTime.now().minus(config.getRetention()));
+        if (purged > 0) {
+            log.info("Purged {} published outbox row(s)", purged);
+        }
+    }
+
+    private void drain(final IntSupplier batch) {
+        int count;
+        do {
+            count = batch.getAsInt();
+        } while (count == config.getBatchSize());
+    }
+
+    int sequenceBatch() {
+        final Integer count = transactionTemplate.execute(status -> reservationOutboxRepository.tryLock(LOCK_KEY)
+                ? reservationOutboxRepository.assignSequenceNumbers(config.getBatchSize())
+                : 0);
+        sequenced.add(count);
+        return count;
+    }
+
+    int publishBatch() {
+        final Integer count = transactionTemplate.execute(status -> {
+            if (!reservationOutboxRepository.tryLock(LOCK_KEY)) {
+                return 0;
+            }
+            final var batch = reservationOutboxRepository
+                    .findBySequenceNumberNotNullAndPublishedAtIsNullOrderBySequenceNumber(Limit.of(config.getBatchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            outboxSink.publish(batch.stream().map(ReservationChangeMapper.INSTANCE::map).toList());
+            reservationOutboxRepository.markPublished(batch.stream().map(ReservationOutbox::getId).toList(), LocalDateTime.now());
+            return batch.size();
+        });
+        published.add(count);
+        return count;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("booking.outbox.relayed", sequenced, LongAdder::sum)
+                .description("Outbox rows relayed, by step")
+                .tag("step", "sequenced")
+                .register(registry);
+        FunctionCounter.builder("booking.outbox.relayed", published, LongAdder::sum)
+                .description("Outbox rows relayed, by step")
+                .tag("step", "published")
+                .register(registry);
+        FunctionCounter.builder("booking.outbox.relay.failures", failures, LongAdder::sum)
+                .description("Relay runs that failed and left rows for the next run")
+                .register(registry);
+    }
+}
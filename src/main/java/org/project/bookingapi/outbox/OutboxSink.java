@@ -0,0 +1,15 @@
+package org.project.bookingapi.outbox;
+
+import org.project.bookingapi.model.ReservationChange;
+
+import java.util.List;
+
+/**
+ * Destination for relayed reservation changes. Batches arrive in sequence order and at least once: a batch
+ * whose publication fails, or whose instance dies before marking it published, is delivered again.
+ */
+@FunctionalInterface
+public interface OutboxSink {
+
+    void publish(List<ReservationChange> changes);
+}
@@ -0,0 +1,46 @@
+package org.project.bookingapi.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.config.OutboxConfig;
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.project.bookingapi.enums.ReservationChangeType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.repository.ReservationOutboxRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appends every reservation change to {@code booking.reservation_outbox}. This is a plain (not transactional)
+ * listener, so the row is written in the booking transaction and commits or rolls back with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxWriter {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final OutboxConfig config;
+
+    @EventListener
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        reservationOutboxRepository.save(ReservationOutbox.builder()
+                .reservationId(event.reservationId())
+                .roomId(event.roomId())
+                .type(typeOf(event))
+                .checkinDate(event.checkin())
+                .checkoutDate(event.checkout())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static ReservationChangeType typeOf(final ReservationChangedEvent event) {
+        if (!event.isActive()) {
+            return ReservationChangeType.CANCELLED;
+        }
+        return event.hasPreviousPeriod() ? ReservationChangeType.UPDATED : ReservationChangeType.CREATED;
+    }
+}
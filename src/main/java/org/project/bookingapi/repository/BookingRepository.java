@@ -1,30 +1,148 @@
 package org.project.bookingapi.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.project.bookingapi.entity.Reservation;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.model.ReservationPeriod;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Reservation, UUID> {
+    // reservation is partitioned by checkin_date. The date-range queries below take the earliest checkin a stay
+    // overlapping the range can have, so both ends of the range prune partitions; the default methods supply it.
+    default List<Reservation> findOverlappingReservations(final UUID roomId, final LocalDate checkin, final LocalDate checkout) {
+        return findOverlappingReservations(roomId, checkin, checkout, earliestCheckin(checkin));
+    }
+
+    // Native for the range operator: room_id = ? and period && ? is answered by the reservation_no_overlap GiST
+    // index on reservation_guard, whose predicate the status filter repeats. Each hit is then fetched by primary
+    // key, and the checkin_date bounds prune the partitions that lookup can touch.
+    @Query(value = """
+              select r.* from booking.reservation_guard g
+              join booking.reservation r on r.id = g.reservation_id and r.checkin_date = g.checkin_date
+              where g.room_id = :roomId
+                and g.status is distinct from 'CANCELLED'
+                and g.period && daterange(cast(:checkin as date), cast(:checkout as date), '[)')
+                and r.checkin_date > cast(:earliestCheckin as date)
+                and r.checkin_date < cast(:checkout as date)
+            """, nativeQuery = true)
+    List<Reservation> findOverlappingReservations(@Param("roomId") UUID roomId,
+                                                  @Param("checkin") LocalDate checkin,
+                                                  @Param("checkout") LocalDate checkout,
+                                                  @Param("earliestCheckin") LocalDate earliestCheckin);
+
+    default List<ReservationPeriod> findActivePeriods(final LocalDate from, final LocalDate to) {
+        return findActivePeriods(from, to, earliestCheckin(from));
+    }
+
     @Query("""
-              select r from reservation r\s
-              where r.roomId = :roomId\s
+              select new org.project.bookingapi.model.ReservationPeriod(r.id, r.roomId, r.checkinDate, r.checkoutDate)\s
+              from reservation r\s
+              where r.status <> 'CANCELLED'
+                and r.checkinDate > :earliestCheckin
+                and r.checkinDate < :to
+                and r.checkoutDate > :from
+            """)
+    List<ReservationPeriod> findActivePeriods(@Param("from") LocalDate from,
+                                              @Param("to") LocalDate to,
+                                              @Param("earliestCheckin") LocalDate earliestCheckin);
+
+    default List<ReservationPeriod> findActivePeriodsForRooms(final Collection<UUID> roomIds, final LocalDate from,
+                                                              final LocalDate to) {
+        return findActivePeriodsForRooms(roomIds, from, to, earliestCheckin(from));
+    }
+
+    @Query("""
+              select new org.project.bookingapi.model.ReservationPeriod(r.id, r.roomId, r.checkinDate, r.checkoutDate)\s
+              from reservation r\s
+              where r.roomId in :roomIds
                 and r.status <> 'CANCELLED'
-                and not (r.checkoutDate <= :checkin or r.checkinDate >= :checkout)
+                and r.checkinDate > :earliestCheckin
+                and r.checkinDate < :to
+                and r.checkoutDate > :from
             """)
-    List<Reservation> findOverlappingReservations(@Param("roomId") UUID roomId,
-                                                  @Param("checkin") LocalDate checkin,
-                                                  @Param("checkout") LocalDate checkout);
+    List<ReservationPeriod> findActivePeriodsForRooms(@Param("roomIds") Collection<UUID> roomIds,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to,
+                                                      @Param("earliestCheckin") LocalDate earliestCheckin);
+
+    Slice<Reservation> findAllByUserId(UUID userId, Pageable pageable);
+
+    default Stream<Reservation> streamForExport(final LocalDate from, final LocalDate to,
+                                                final Collection<BookingStatusType> statuses) {
+        return streamForExport(from, to, statuses, earliestCheckin(from));
+    }
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+              select r from reservation r\s
+              where r.status in :statuses
+                and r.checkinDate > :earliestCheckin
+                and r.checkinDate < :to
+                and r.checkoutDate > :from
+              order by r.createdDate, r.id
+            """)
+    Stream<Reservation> streamForExport(@Param("from") LocalDate from,
+                                        @Param("to") LocalDate to,
+                                        @Param("statuses") Collection<BookingStatusType> statuses,
+                                        @Param("earliestCheckin") LocalDate earliestCheckin);
+
+    @Query("select r from reservation r order by r.createdDate, r.id")
+    Slice<Reservation> findFirstSlice(Pageable pageable);
+
+    @Query("""
+              select r from reservation r\s
+              where (r.createdDate, r.id) > (:createdDate, :id)
+              order by r.createdDate, r.id
+            """)
+    Slice<Reservation> findSliceAfter(@Param("createdDate") LocalDateTime createdDate,
+                                      @Param("id") UUID id,
+                                      Pageable pageable);
+
+    @Query("select r from reservation r where r.userId = :userId order by r.createdDate, r.id")
+    Slice<Reservation> findFirstSliceByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("""
+              select r from reservation r\s
+              where r.userId = :userId
+                and (r.createdDate, r.id) > (:createdDate, :id)
+              order by r.createdDate, r.id
+            """)
+    Slice<Reservation> findSliceByUserIdAfter(@Param("userId") UUID userId,
+                                              @Param("createdDate") LocalDateTime createdDate,
+                                              @Param("id") UUID id,
+                                              Pageable pageable);
+
+    // False when the partition for that month already exists.
+    @Transactional
+    @Query(value = "select booking.create_reservation_partition(cast(:month as date))", nativeQuery = true)
+    boolean createPartition(@Param("month") LocalDate month);
+
+    // Detaches month partitions that ended on or before the given date into booking_archive; returns their names.
+    @Transactional
+    @Query(value = "select booking.archive_reservation_partitions(cast(:endedBefore as date))", nativeQuery = true)
+    List<String> archivePartitions(@Param("endedBefore") LocalDate endedBefore);
 
-    Page<Reservation> findAllByUserId(UUID userId, Pageable pageable);
+    // A stay that overlaps a range starting on this date checked in after the returned day.
+    static LocalDate earliestCheckin(final LocalDate from) {
+        return from.minusDays(Reservation.MAX_STAY_NIGHTS);
+    }
 }
\ No newline at end of file
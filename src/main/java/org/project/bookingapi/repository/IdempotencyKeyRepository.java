@@ -0,0 +1,31 @@
+package org.project.bookingapi.repository;
+
+import org.project.bookingapi.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Plain insert rather than save(): a key written concurrently by another instance must fail, not merge.
+    @Modifying
+    @Query(value = """
+              insert into booking.idempotency_key (idempotency_key, request_hash, response, created_at)
+              values (:key, :requestHash, :response, :createdAt)
+            """, nativeQuery = true)
+    void insert(@Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("response") String response,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from idempotency_key k where k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
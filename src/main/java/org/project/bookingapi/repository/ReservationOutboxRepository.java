@@ -0,0 +1,56 @@
+package org.project.bookingapi.repository;
+
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutbox, Long> {
+
+    // Held until the surrounding transaction ends, so only one instance sequences or publishes at a time.
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(@Param("key") long key);
+
+    @Query("select coalesce(max(o.sequenceNumber), 0) from reservation_outbox o")
+    long findLastSequenceNumber();
+
+    // Numbers the oldest unsequenced rows after the current maximum. Run under tryLock, so numbers are
+    // committed in increasing order and a reader that has seen n never later finds a new row below n. Ids come
+    // from per-instance blocks, so creation time orders rows across instances and id only breaks ties.
+    @Modifying
+    @Query(value = """
+              with head as (select coalesce(max(sequence_number), 0) as last from booking.reservation_outbox),
+                   pending as (select id, row_number() over (order by created_at, id) as n
+                               from booking.reservation_outbox
+                               where sequence_number is null
+                               order by created_at, id
+                               limit :limit)
+              update booking.reservation_outbox o
+              set sequence_number = head.last + pending.n
+              from head, pending
+              where o.id = pending.id
+            """, nativeQuery = true)
+    int assignSequenceNumbers(@Param("limit") int limit);
+
+    List<ReservationOutbox> findBySequenceNumberGreaterThanOrderBySequenceNumber(long sequenceNumber, Limit limit);
+
+    List<ReservationOutbox> findBySequenceNumberNotNullAndPublishedAtIsNullOrderBySequenceNumber(Limit limit);
+
+    @Modifying
+    @Query("update reservation_outbox o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from reservation_outbox o where o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
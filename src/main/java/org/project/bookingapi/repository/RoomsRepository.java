@@ -4,8 +4,13 @@ import jakarta.persistence.LockModeType;
 import org.project.bookingapi.entity.Rooms;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +18,25 @@ import java.util.UUID;
 public interface RoomsRepository extends JpaRepository<Rooms, UUID> {
     Optional<Rooms> findByRoomNumber(Long roomNumber);
 
+    // Bookings rely on the reservation_no_overlap constraint; only take this lock for room-level changes
+    // that must not interleave with new reservations.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Rooms> findById(final UUID id);
-}
\ No newline at end of file
+    @Query("select r from rooms r where r.id = :id")
+    Optional<Rooms> findByIdForUpdate(@Param("id") UUID id);
+
+    // Anti-join against reservation_guard, probing its reservation_no_overlap GiST index on (room_id, period) per
+    // room; the status filter repeats the constraint's predicate so the planner can use it. Read-only so it can be
+    // served by a read replica when those are configured. Callers that must see a change committed moments ago call
+    // it inside a read-write transaction, which stays on the primary.
+    @Transactional(readOnly = true)
+    @Query(value = """
+              select rm.* from booking.rooms rm
+              where not exists (
+                  select 1 from booking.reservation_guard g
+                  where g.room_id = rm.id
+                    and g.status is distinct from 'CANCELLED'
+                    and g.period && daterange(cast(:checkin as date), cast(:checkout as date), '[)'))
+              order by rm.room_number
+            """, nativeQuery = true)
+    List<Rooms> findAvailableRooms(@Param("checkin") LocalDate checkin, @Param("checkout") LocalDate checkout);
+}
@@ -2,12 +2,22 @@ package org.project.bookingapi.repository;
 
 import org.project.bookingapi.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UsersRepository extends JpaRepository<Users, UUID> {
     Optional<Users> findByUsername(String username);
-    boolean existsByUsername(String username);
-    boolean existsByEmail(String email);
+
+    List<Users> findByEmailOrUsername(String email, String username);
+
+    @Transactional
+    @Modifying
+    @Query("update users u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
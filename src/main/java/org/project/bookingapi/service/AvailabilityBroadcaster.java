@@ -0,0 +1,324 @@
+package org.project.bookingapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.config.AvailabilityStreamConfig;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.project.bookingapi.mapper.RoomsMapper;
+import org.project.bookingapi.model.RoomAvailabilityChange;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Pushes availability for a stay over server-sent events: a {@code snapshot} of the available rooms, then one
+ * {@code delta} per room that becomes available or unavailable. Connections watching the same stay share one
+ * topic, so a committed change is evaluated once per stay on a single dispatcher thread and then queued to
+ * each connection. Every connection has a bounded buffer drained by its own virtual thread; a connection whose
+ * buffer fills is closed, and the client's reconnect starts again from a fresh snapshot.
+ */
+@Slf4j
+@Component
+public class AvailabilityBroadcaster implements MeterBinder, AutoCloseable {
+
+    private final AvailabilityIndex availabilityIndex;
+    private final RoomsRepository roomsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AvailabilityStreamConfig config;
+
+    private final ConcurrentMap<Window, Topic> topics = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("availability-broadcaster").factory());
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public AvailabilityBroadcaster(final AvailabilityIndex availabilityIndex, final RoomsRepository roomsRepository,
+                                   final TransactionTemplate transactionTemplate, final AvailabilityStreamConfig config) {
+        this.availabilityIndex = availabilityIndex;
+        this.roomsRepository = roomsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+    }
+
+    public SseEmitter subscribe(final LocalDate checkin, final LocalDate checkout) {
+        if (connections.incrementAndGet() > config.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new LoadSheddingException("Too many open availability streams", config.getRetryAfter());
+        }
+        final var connection = new Connection(new SseEmitter(config.getTimeout().toMillis()));
+        final var window = new Window(checkin, checkout);
+        try {
+            while (!topics.computeIfAbsent(window, Topic::new).add(connection)) {
+                // the topic closed after its last connection left; a fresh one is created on the next pass
+            }
+        } catch (RuntimeException ex) {
+            connections.decrementAndGet();
+            throw ex;
+        }
+        connection.start();
+        return connection.emitter;
+    }
+
+    // Runs after AvailabilityIndex has applied the change, so the index already reflects it.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        dispatch(() -> topics.values().stream()
+                .filter(topic -> topic.window.overlaps(event.checkin(), event.checkout())
+                        || event.hasPreviousPeriod() && topic.window.overlaps(event.previousCheckin(), event.previousCheckout()))
+                .forEach(Topic::refresh));
+    }
+
+    @Scheduled(fixedDelayString = "${booking.availability-stream.resync-interval:PT1M}",
+            initialDelayString = "${booking.availability-stream.resync-interval:PT1M}")
+    public void resync() {
+        if (!topics.isEmpty()) {
+            dispatch(() -> topics.values().forEach(Topic::refresh));
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away without closing.
+    @Scheduled(fixedDelayString = "${booking.availability-stream.heartbeat-interval:PT15S}",
+            initialDelayString = "${booking.availability-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        topics.values().forEach(topic -> topic.broadcast(() -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void dispatch(final Runnable task) {
+        dispatcher.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.warn("Availability stream update failed, streams resync on the next run", ex);
+            }
+        });
+    }
+
+    // Stays outside the index are read in a read-write transaction, so from the primary: a lagging replica could
+    // miss the commit that triggered the refresh, and a later resync against a fresher one would flip rooms back.
+    private Map<UUID, RoomsDto> load(final Window window) {
+        final List<RoomsDto> rooms = availabilityIndex.findAvailableRooms(window.checkin(), window.checkout())
+                .orElseGet(() -> transactionTemplate.execute(status -> roomsRepository.findAvailableRooms(window.checkin(), window.checkout())
+                        .stream()
+                        .map(RoomsMapper.INSTANCE::map)
+                        .toList()));
+        final var available = new LinkedHashMap<UUID, RoomsDto>();
+        rooms.forEach(room -> available.put(room.id(), room));
+        return available;
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+        topics.values().forEach(Topic::closeAll);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("booking.availability.stream.connections", connections, AtomicInteger::get)
+                .description("Open availability streams")
+                .register(registry);
+        Gauge.builder("booking.availability.stream.topics", topics, Map::size)
+                .description("Distinct stays being streamed")
+                .register(registry);
+        FunctionCounter.builder("booking.availability.stream.events", pushed, LongAdder::sum)
+                .description("Events written to availability streams")
+                .register(registry);
+        FunctionCounter.builder("booking.availability.stream.dropped", dropped, LongAdder::sum)
+                .description("Availability streams closed because the client fell behind")
+                .register(registry);
+    }
+
+    private record Window(LocalDate checkin, LocalDate checkout) {
+
+        boolean overlaps(final LocalDate from, final LocalDate to) {
+            return checkin.isBefore(to) && checkout.isAfter(from);
+        }
+    }
+
+    private final class Topic {
+        private final Window window;
+        private final ReentrantLock lock = new ReentrantLock();
+        // guarded by lock
+        private final List<Connection> members = new ArrayList<>();
+        private Map<UUID, RoomsDto> available;
+        private boolean closed;
+
+        Topic(final Window window) {
+            this.window = window;
+        }
+
+        // The snapshot is queued under the lock, so no change can slip in between it and the first delta.
+        boolean add(final Connection connection) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                if (available == null) {
+                    try {
+                        available = load(window);
+                    } catch (RuntimeException ex) {
+                        closed = true;
+                        topics.remove(window, this);
+                        throw ex;
+                    }
+                }
+                members.add(connection);
+                connection.topic = this;
+                final var snapshot = List.copyOf(available.values());
+                connection.offer(() -> SseEmitter.event()
+                        .name("snapshot")
+                        .reconnectTime(config.getRetryAfter().toMillis())
+                        .data(snapshot));
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(final Connection connection) {
+            lock.lock();
+            try {
+                members.remove(connection);
+                if (members.isEmpty() && !closed) {
+                    closed = true;
+                    topics.remove(window, this);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void refresh() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                final var current = load(window);
+                final var changes = new ArrayList<RoomAvailabilityChange>();
+                available.forEach((id, room) -> {
+                    if (!current.containsKey(id)) {
+                        changes.add(new RoomAvailabilityChange(room, false));
+                    }
+                });
+                current.forEach((id, room) -> {
+                    if (!available.containsKey(id)) {
+                        changes.add(new RoomAvailabilityChange(room, true));
+                    }
+                });
+                available = current;
+                changes.forEach(change -> broadcast(() -> SseEmitter.event().name("delta").data(change)));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Builders are single-use, so each connection gets its own.
+        void broadcast(final Supplier<SseEmitter.SseEventBuilder> event) {
+            lock.lock();
+            try {
+                List.copyOf(members).forEach(connection -> connection.offer(event));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void closeAll() {
+            lock.lock();
+            try {
+                List.copyOf(members).forEach(connection -> connection.emitter.complete());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> buffer = new ArrayBlockingQueue<>(config.getBufferSize());
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Topic topic;
+        private volatile Thread sender;
+
+        Connection(final SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(ex -> close());
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("availability-stream").start(this::drain);
+        }
+
+        void offer(final Supplier<SseEmitter.SseEventBuilder> event) {
+            if (!closed.get() && !buffer.offer(event)) {
+                dropped.increment();
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    emitter.send(buffer.take().get());
+                    pushed.increment();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                connections.decrementAndGet();
+                if (sender != null) {
+                    sender.interrupt();
+                }
+                if (topic != null) {
+                    topic.remove(this);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package org.project.bookingapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.config.AvailabilityIndexConfig;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.event.RoomsChangedEvent;
+import org.project.bookingapi.mapper.RoomsMapper;
+import org.project.bookingapi.model.ReservationPeriod;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-room, per-night occupancy bitmap over a rolling horizon starting today: bit {@code i} of a room
+ * is set when the night of {@code origin + i} is booked. Searches outside the horizon return empty so
+ * callers fall back to the database.
+ * <p>
+ * Each night also keeps a count of the reservations holding it, and the bit follows that count. Deltas
+ * are applied after commit, by the committing thread, so two of them can arrive in a different order
+ * from their commits; adding and subtracting gives the same result in either order.
+ * <p>
+ * Only this instance's commits arrive as deltas. Rooms written through JPA trigger a rebuild here, but
+ * bookings and room changes made on other instances or outside the application show up at the next
+ * {@code booking.availability-index.verify-interval}, which bounds how stale a search can be.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+
+    private final RoomsRepository roomsRepository;
+    private final BookingRepository bookingRepository;
+    private final AvailabilityIndexConfig config;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // guarded by lock
+    private Snapshot snapshot;
+    // guarded by lock; non-null while a rebuild is loading so concurrent deltas can be replayed onto it
+    private List<ReservationChangedEvent> replayLog;
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return snapshot != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<RoomsDto>> findAvailableRooms(final LocalDate checkin, final LocalDate checkout) {
+        lock.readLock().lock();
+        try {
+            if (snapshot == null || !snapshot.covers(checkin, checkout)) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot.availableRooms(checkin, checkout));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (replayLog != null) {
+                replayLog.add(event);
+            }
+            if (snapshot != null) {
+                snapshot.apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A room added, removed or retyped changes the room set, so the whole snapshot is reloaded. If that fails the
+    // old snapshot is dropped, and searches query the database until the next verification.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsChanged(final RoomsChangedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                snapshot = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("Availability index rebuild after a room change failed, searches will query the database until the next verification", ex);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!config.isEnabled()) {
+            log.info("Availability index disabled, searches will query the database");
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Availability index warm-up failed, searches will query the database until the next verification", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.availability-index.verify-interval:PT15M}",
+            initialDelayString = "${booking.availability-index.verify-interval:PT15M}")
+    public void scheduledVerify() {
+        if (config.isEnabled()) {
+            verify();
+        }
+    }
+
+    public void rebuild() {
+        refresh(true);
+    }
+
+    // Returns the number of rooms whose occupancy differed from the database.
+    public int verify() {
+        final int drifted = refresh(false);
+        if (drifted > 0) {
+            log.warn("Availability index drifted from the database for {} room(s), rebuilt", drifted);
+        }
+        return drifted;
+    }
+
+    private int refresh(final boolean force) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                replayLog = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Snapshot fresh = null;
+            final Map<UUID, ReservationPeriod> loaded = new HashMap<>();
+            try {
+                fresh = load(loaded);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (fresh != null) {
+                        for (ReservationChangedEvent event : replayLog) {
+                            fresh.replay(event, loaded);
+                        }
+                    }
+                    replayLog = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                final boolean rolled = snapshot == null || !snapshot.origin.equals(fresh.origin);
+                final int drifted = rolled ? 0 : snapshot.countDrift(fresh);
+                if (force || rolled || drifted > 0) {
+                    snapshot = fresh;
+                    log.info("Availability index loaded: {} rooms, {} nights from {}",
+                            fresh.rooms.size(), fresh.nights, fresh.origin);
+                }
+                return drifted;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot load(final Map<UUID, ReservationPeriod> loaded) {
+        final var origin = LocalDate.now();
+        final var end = origin.plusDays(config.getHorizonDays());
+
+        final var rooms = roomsRepository.findAll(Sort.by("roomNumber"))
+                .stream()
+                .map(RoomsMapper.INSTANCE::map)
+                .toList();
+        final var fresh = new Snapshot(origin, config.getHorizonDays(), rooms);
+        for (ReservationPeriod period : bookingRepository.findActivePeriods(origin, end)) {
+            fresh.add(period.roomId(), period.checkinDate(), period.checkoutDate(), 1);
+            loaded.put(period.reservationId(), period);
+        }
+        return fresh;
+    }
+
+    static final class Snapshot {
+        private final LocalDate origin;
+        private final int nights;
+        private final List<RoomsDto> rooms;
+        private final Map<UUID, long[]> occupancy;
+        private final Map<UUID, short[]> bookings;
+
+        Snapshot(final LocalDate origin, final int nights, final List<RoomsDto> rooms) {
+            this.origin = origin;
+            this.nights = nights;
+            this.rooms = rooms;
+            this.occupancy = new HashMap<>(rooms.size() * 2);
+            this.bookings = new HashMap<>(rooms.size() * 2);
+            final int words = (nights + 63) >>> 6;
+            rooms.forEach(room -> {
+                occupancy.put(room.id(), new long[words]);
+                bookings.put(room.id(), new short[nights]);
+            });
+        }
+
+        boolean covers(final LocalDate checkin, final LocalDate checkout) {
+            return checkin.isBefore(checkout)
+                    && !checkin.isBefore(origin)
+                    && !checkout.isAfter(origin.plusDays(nights));
+        }
+
+        List<RoomsDto> availableRooms(final LocalDate checkin, final LocalDate checkout) {
+            final int from = offset(checkin);
+            final int to = offset(checkout);
+            final var available = new ArrayList<RoomsDto>();
+            for (RoomsDto room : rooms) {
+                if (isClear(occupancy.get(room.id()), from, to)) {
+                    available.add(room);
+                }
+            }
+            return available;
+        }
+
+        void apply(final ReservationChangedEvent event) {
+            if (event.hasPreviousPeriod()) {
+                add(event.roomId(), event.previousCheckin(), event.previousCheckout(), -1);
+            }
+            if (event.isActive()) {
+                add(event.roomId(), event.checkin(), event.checkout(), 1);
+            }
+        }
+
+        // An event that committed while this snapshot was loading may already be in what the load read. It is
+        // applied only if the loaded state of its reservation is still the one the event started from.
+        void replay(final ReservationChangedEvent event, final Map<UUID, ReservationPeriod> loaded) {
+            final var before = event.hasPreviousPeriod()
+                    ? held(event.reservationId(), event.roomId(), event.previousCheckin(), event.previousCheckout())
+                    : null;
+            if (!Objects.equals(loaded.get(event.reservationId()), before)) {
+                return;
+            }
+            apply(event);
+            final var after = event.isActive()
+                    ? held(event.reservationId(), event.roomId(), event.checkin(), event.checkout())
+                    : null;
+            if (after == null) {
+                loaded.remove(event.reservationId());
+            } else {
+                loaded.put(event.reservationId(), after);
+            }
+        }
+
+        // The period as the load would have read it, or null when it holds no night in the horizon.
+        private ReservationPeriod held(final UUID reservationId, final UUID roomId,
+                                       final LocalDate checkin, final LocalDate checkout) {
+            return offset(checkin) < nights && offset(checkout) > 0
+                    ? new ReservationPeriod(reservationId, roomId, checkin, checkout)
+                    : null;
+        }
+
+        void add(final UUID roomId, final LocalDate checkin, final LocalDate checkout, final int delta) {
+            final long[] bits = occupancy.get(roomId);
+            if (bits == null) {
+                return;
+            }
+            final short[] counts = bookings.get(roomId);
+            final int from = Math.max(0, offset(checkin));
+            final int to = Math.min(nights, offset(checkout));
+            for (int night = from; night < to; night++) {
+                counts[night] += delta;
+                if (counts[night] > 0) {
+                    bits[night >>> 6] |= 1L << night;
+                } else {
+                    bits[night >>> 6] &= ~(1L << night);
+                }
+            }
+        }
+
+        int countDrift(final Snapshot other) {
+            if (!rooms.equals(other.rooms)) {
+                return Math.max(bookings.size(), other.bookings.size());
+            }
+            int drifted = 0;
+            for (Map.Entry<UUID, short[]> entry : bookings.entrySet()) {
+                if (!Arrays.equals(entry.getValue(), other.bookings.get(entry.getKey()))) {
+                    drifted++;
+                }
+            }
+            return drifted;
+        }
+
+        private int offset(final LocalDate date) {
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, ChronoUnit.DAYS.between(origin, date)));
+        }
+
+        private static boolean isClear(final long[] bits, final int from, final int to) {
+            final int first = from >>> 6;
+            final int last = (to - 1) >>> 6;
+            for (int word = first; word <= last; word++) {
+                if ((bits[word] & mask(word, first, last, from, to)) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long mask(final int word, final int first, final int last, final int from, final int to) {
+            long mask = -1L;
+            if (word == first) {
+                mask &= -1L << (from & 63);
+            }
+            if (word == last) {
+                mask &= -1L >>> (63 - ((to - 1) & 63));
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.project.bookingapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.project.bookingapi.config.AvailabilitySearchConfig;
+import org.project.bookingapi.config.ReadReplicaConfig;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.model.RoomsDto;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for availability searches: concurrent searches for the same stay share one computation,
+ * and with {@code booking.availability-search.cache-ttl} set the result is reused for that long. Both are
+ * invalidated by any committed reservation change overlapping the searched nights; writes made by other
+ * instances are only bounded by the TTL. With read replicas, a search overlapping a change committed within
+ * {@code max-lag} runs on the primary, since a replica may not have that change yet and the result is cached.
+ */
+@Component
+public class AvailabilitySearchCoalescer implements MeterBinder {
+
+    private final AvailabilitySearchConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration replicaLag;
+    private final ConcurrentMap<SearchKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Cache<SearchKey, List<RoomsDto>> recent;
+    // Changes committed within replicaLag, oldest first; empty without read replicas.
+    private final Deque<Change> recentChanges = new ConcurrentLinkedDeque<>();
+
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder cached = new LongAdder();
+
+    public AvailabilitySearchCoalescer(final AvailabilitySearchConfig config, final TransactionTemplate transactionTemplate,
+                                       final Optional<ReadReplicaConfig> readReplicas) {
+        this.config = config;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaLag = readReplicas.map(ReadReplicaConfig::getMaxLag).orElse(Duration.ZERO);
+        this.recent = config.getCacheTtl().isPositive()
+                ? Caffeine.newBuilder().maximumSize(config.getCacheSize()).expireAfterWrite(config.getCacheTtl()).build()
+                : null;
+    }
+
+    public List<RoomsDto> search(final LocalDate checkin, final LocalDate checkout, final Supplier<List<RoomsDto>> replicaSearch) {
+        // A read-write transaction takes its connection from the primary.
+        final Supplier<List<RoomsDto>> search = changedRecently(checkin, checkout)
+                ? () -> transactionTemplate.execute(status -> replicaSearch.get())
+                : replicaSearch;
+        if (!config.isCoalesce()) {
+            return search.get();
+        }
+        final var key = new SearchKey(checkin, checkout);
+        if (recent != null) {
+            final var hit = recent.getIfPresent(key);
+            if (hit != null) {
+                cached.increment();
+                return hit;
+            }
+        }
+
+        final var flight = new Flight();
+        final var leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.await();
+        }
+        computed.increment();
+        try {
+            final var result = List.copyOf(search.get());
+            if (recent != null) {
+                recent.put(key, result);
+                // A write committed while this search ran may have been missed; re-checking after the put
+                // means either this sees the flag or the invalidation sees the cached entry.
+                if (flight.stale) {
+                    recent.invalidate(key);
+                }
+            }
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Ordered after the availability index has applied the same change, so a fresh search never reads the old state.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(final ReservationChangedEvent event) {
+        if (event.hasPreviousPeriod()) {
+            changed(event.previousCheckin(), event.previousCheckout());
+        }
+        changed(event.checkin(), event.checkout());
+    }
+
+    private void changed(final LocalDate from, final LocalDate to) {
+        if (replicaLag.isPositive()) {
+            recentChanges.addLast(new Change(new SearchKey(from, to), System.nanoTime()));
+        }
+        invalidate(from, to);
+    }
+
+    private boolean changedRecently(final LocalDate checkin, final LocalDate checkout) {
+        if (recentChanges.isEmpty()) {
+            return false;
+        }
+        final long since = System.nanoTime() - replicaLag.toNanos();
+        for (var oldest = recentChanges.peekFirst(); oldest != null && oldest.committedAt() - since < 0; oldest = recentChanges.peekFirst()) {
+            recentChanges.remove(oldest);
+        }
+        return recentChanges.stream().anyMatch(change -> change.nights().overlaps(checkin, checkout));
+    }
+
+    // Drops cached and in-flight searches overlapping [from, to); searches already waiting keep their result.
+    public void invalidate(final LocalDate from, final LocalDate to) {
+        inFlight.forEach((key, flight) -> {
+            if (key.overlaps(from, to) && inFlight.remove(key, flight)) {
+                flight.stale = true;
+            }
+        });
+        if (recent != null) {
+            recent.asMap().keySet().removeIf(key -> key.overlaps(from, to));
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("booking.availability.searches", computed, LongAdder::sum)
+                .description("Availability searches that ran a computation")
+                .tag("result", "computed")
+                .register(meterRegistry);
+        FunctionCounter.builder("booking.availability.searches", coalesced, LongAdder::sum)
+                .description("Availability searches that joined an identical running search")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        FunctionCounter.builder("booking.availability.searches", cached, LongAdder::sum)
+                .description("Availability searches answered from the micro-cache")
+                .tag("result", "cached")
+                .register(meterRegistry);
+    }
+
+    private record SearchKey(LocalDate checkin, LocalDate checkout) {
+
+        boolean overlaps(final LocalDate from, final LocalDate to) {
+            return checkin.isBefore(to) && from.isBefore(checkout);
+        }
+    }
+
+    private record Change(SearchKey nights, long committedAt) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<List<RoomsDto>> result = new CompletableFuture<>();
+        private volatile boolean stale;
+
+        List<RoomsDto> await() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -3,63 +3,207 @@ package org.project.bookingapi.service;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.postgresql.util.PSQLException;
+import org.project.bookingapi.admission.ConcurrencyLimited;
+import org.project.bookingapi.config.BookingWriteConfig;
 import org.project.bookingapi.entity.Reservation;
-import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.enums.BatchItemStatus;
+import org.project.bookingapi.enums.BatchMode;
 import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ConflictCheck;
+import org.project.bookingapi.enums.LimitBudget;
+import org.project.bookingapi.event.ReservationChangedEvent;
 import org.project.bookingapi.exception.BookingConflictException;
 import org.project.bookingapi.exception.ResourceNotFoundException;
 import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.project.bookingapi.exception.ValidationException;
 import org.project.bookingapi.mapper.BookingRequestMapper;
 import org.project.bookingapi.mapper.BookingResponseMapper;
+import org.project.bookingapi.mapper.RoomsMapper;
+import org.project.bookingapi.metrics.BookingMetrics;
+import org.project.bookingapi.metrics.BookingMetrics.ConflictCause;
+import org.project.bookingapi.model.ReservationCursor;
+import org.project.bookingapi.model.ReservationPeriod;
 import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.model.request.BatchReservationRequest;
 import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.BatchReservationItem;
+import org.project.bookingapi.model.response.BatchReservationResponse;
+import org.project.bookingapi.model.response.ReservationPageResponse;
 import org.project.bookingapi.model.response.ReservationResponse;
 import org.project.bookingapi.repository.BookingRepository;
 import org.project.bookingapi.repository.RoomsRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
+    private static final String CHECKOUT_NOT_AFTER_CHECKIN = "Checkout date must be after checkin date";
+    private static final String STAY_TOO_LONG = "A stay can be at most %d nights".formatted(Reservation.MAX_STAY_NIGHTS);
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
     private final BookingRepository bookingRepository;
     private final RoomsRepository roomsRepository;
+    private final RoomCatalog roomCatalog;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilitySearchCoalescer availabilitySearchCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingMetrics bookingMetrics;
+    private final BookingWriteConfig bookingWriteConfig;
+    private final TransactionTemplate transactionTemplate;
 
+    @ConcurrencyLimited(LimitBudget.WRITE)
     @Transactional
     public ReservationResponse createReservation(final ReservationRequest request) {
 
-        Rooms room = roomsRepository.findById(request.roomId())
+        RoomsDto room = roomCatalog.findById(request.roomId())
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + request.roomId()));
+        checkStayWindow(request.checkinDate(), request.checkoutDate());
 
-        List<Reservation> overlapping = bookingRepository.findOverlappingReservations(
-                request.roomId(), request.checkinDate(), request.checkoutDate());
-        if (!overlapping.isEmpty()) {
+        if (isPreChecked() && !bookingRepository.findOverlappingReservations(
+                request.roomId(), request.checkinDate(), request.checkoutDate()).isEmpty()) {
+            bookingMetrics.conflict(ConflictCause.BOOKING_CONFLICT);
             throw new BookingConflictException("Room already booked for the selected dates");
         }
 
         Reservation reservation = BookingRequestMapper.INSTANCE.map(request);
-        reservation.setRoomNumber(room.getRoomNumber().intValue());
+        reservation.setRoomNumber(room.roomNumber().intValue());
         try {
-            Reservation saved = bookingRepository.save(reservation);
+            Reservation saved = bookingRepository.saveAndFlush(reservation);
+            eventPublisher.publishEvent(ReservationChangedEvent.created(saved));
 
             return BookingResponseMapper.INSTANCE.map(saved);
         } catch (DataIntegrityViolationException dataIntegrityViolationException) {
             if (isOverlapViolation(dataIntegrityViolationException)) {
+                bookingMetrics.conflict(ConflictCause.ROOM_ALREADY_BOOKED);
                 throw new RoomAlreadyBookedException("Room is already booked for the selected dates.");
             }
             throw dataIntegrityViolationException;
         }
     }
 
+    // A booking committed between an attempt's period check and its insert fails the flush with 23P01, which
+    // rolls that attempt back. The next attempt runs in a fresh transaction, so its check sees the booking and
+    // reports the items it overlaps as CONFLICT instead of losing the whole batch.
+    @ConcurrencyLimited(LimitBudget.WRITE)
+    public BatchReservationResponse createReservations(final BatchReservationRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> bookBatch(request));
+            } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+                if (!isOverlapViolation(dataIntegrityViolationException)) {
+                    throw dataIntegrityViolationException;
+                }
+                bookingMetrics.conflict(ConflictCause.ROOM_ALREADY_BOOKED);
+                if (attempt == MAX_BATCH_ATTEMPTS) {
+                    throw new RoomAlreadyBookedException("Concurrent bookings keep conflicting with this batch. Please retry.");
+                }
+            }
+        }
+    }
+
+    private BatchReservationResponse bookBatch(final BatchReservationRequest request) {
+        final List<ReservationRequest> requests = request.reservations();
+        final BatchReservationItem[] results = new BatchReservationItem[requests.size()];
+
+        final Set<UUID> roomIds = requests.stream().map(ReservationRequest::roomId).collect(Collectors.toSet());
+        final Map<UUID, RoomsDto> rooms = roomCatalog.findAllById(roomIds);
+
+        final Map<UUID, List<Integer>> candidatesByRoom = new HashMap<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest item = requests.get(i);
+            if (!rooms.containsKey(item.roomId())) {
+                results[i] = batchFailure(i, BatchItemStatus.NOT_FOUND, "Room not found: " + item.roomId());
+            } else if (!item.checkinDate().isBefore(item.checkoutDate())) {
+                results[i] = batchFailure(i, BatchItemStatus.INVALID, CHECKOUT_NOT_AFTER_CHECKIN);
+            } else if (isTooLong(item.checkinDate(), item.checkoutDate())) {
+                results[i] = batchFailure(i, BatchItemStatus.INVALID, STAY_TOO_LONG);
+            } else {
+                candidatesByRoom.computeIfAbsent(item.roomId(), roomId -> new ArrayList<>()).add(i);
+                from = item.checkinDate().isBefore(from) ? item.checkinDate() : from;
+                to = item.checkoutDate().isAfter(to) ? item.checkoutDate() : to;
+            }
+        }
+
+        final Map<UUID, List<ReservationPeriod>> booked = candidatesByRoom.isEmpty() ? Map.of() :
+                bookingRepository.findActivePeriodsForRooms(candidatesByRoom.keySet(), from, to).stream()
+                        .collect(Collectors.groupingBy(ReservationPeriod::roomId));
+
+        candidatesByRoom.forEach((roomId, indexes) -> {
+            indexes.sort(Comparator.comparing(index -> requests.get(index).checkinDate()));
+            final List<ReservationPeriod> existing = booked.getOrDefault(roomId, List.of());
+            LocalDate acceptedUntil = LocalDate.MIN;
+            int lastAccepted = -1;
+            for (int index : indexes) {
+                ReservationRequest item = requests.get(index);
+                if (item.checkinDate().isBefore(acceptedUntil)) {
+                    bookingMetrics.conflict(ConflictCause.BOOKING_CONFLICT);
+                    results[index] = batchFailure(index, BatchItemStatus.CONFLICT,
+                            "Overlaps reservation #%d in this batch".formatted(lastAccepted));
+                } else if (existing.stream().anyMatch(period -> period.checkinDate().isBefore(item.checkoutDate())
+                        && period.checkoutDate().isAfter(item.checkinDate()))) {
+                    bookingMetrics.conflict(ConflictCause.BOOKING_CONFLICT);
+                    results[index] = batchFailure(index, BatchItemStatus.CONFLICT, "Room already booked for the selected dates");
+                } else {
+                    acceptedUntil = item.checkoutDate();
+                    lastAccepted = index;
+                }
+            }
+        });
+
+        final List<Integer> accepted = IntStream.range(0, results.length).filter(i -> results[i] == null).boxed().toList();
+        if (accepted.size() < results.length && request.mode() == BatchMode.ALL_OR_NOTHING) {
+            accepted.forEach(i -> results[i] = batchFailure(i, BatchItemStatus.SKIPPED,
+                    "Not attempted because another reservation in the batch failed"));
+            return toBatchResponse(request.mode(), results);
+        }
+
+        final List<Reservation> reservations = accepted.stream()
+                .map(i -> {
+                    Reservation reservation = BookingRequestMapper.INSTANCE.map(requests.get(i));
+                    reservation.setRoomNumber(rooms.get(reservation.getRoomId()).roomNumber().intValue());
+                    return reservation;
+                })
+                .toList();
+        bookingRepository.saveAll(reservations);
+        bookingRepository.flush();
+
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation saved = reservations.get(i);
+            eventPublisher.publishEvent(ReservationChangedEvent.created(saved));
+            results[accepted.get(i)] = BatchReservationItem.builder()
+                    .index(accepted.get(i))
+                    .status(BatchItemStatus.CREATED)
+                    .reservation(BookingResponseMapper.INSTANCE.map(saved))
+                    .build();
+        }
+        return toBatchResponse(request.mode(), results);
+    }
+
+    @ConcurrencyLimited(LimitBudget.WRITE)
     @Transactional
     public ReservationResponse updateReservation(final UUID id, final ReservationRequest request) {
 
@@ -68,77 +212,181 @@ public class BookingService {
 
         LocalDate newCheckin = ObjectUtils.isEmpty(request.checkinDate()) ? existing.getCheckinDate() : request.checkinDate();
         LocalDate newCheckout = ObjectUtils.isEmpty(request.checkoutDate()) ? existing.getCheckoutDate() : request.checkoutDate();
+        checkStayWindow(newCheckin, newCheckout);
 
-        List<Reservation> overlapping = new ArrayList<>(bookingRepository.findOverlappingReservations(
-                existing.getRoomId(), newCheckin, newCheckout));
-        overlapping.removeIf(reservation -> reservation.getId().equals(existing.getId()));
-
-        if (!overlapping.isEmpty())
+        if (isPreChecked() && bookingRepository.findOverlappingReservations(existing.getRoomId(), newCheckin, newCheckout)
+                .stream()
+                .anyMatch(reservation -> !reservation.getId().equals(existing.getId()))) {
+            bookingMetrics.conflict(ConflictCause.BOOKING_CONFLICT);
             throw new BookingConflictException("Updated dates conflict with existing reservation");
+        }
 
+        LocalDate previousCheckin = existing.getCheckinDate();
+        LocalDate previousCheckout = existing.getCheckoutDate();
         existing.setCheckinDate(newCheckin);
         existing.setCheckoutDate(newCheckout);
         try {
-            Reservation saved = bookingRepository.save(existing);
+            Reservation saved = bookingRepository.saveAndFlush(existing);
+            eventPublisher.publishEvent(ReservationChangedEvent.updated(saved, previousCheckin, previousCheckout));
             return BookingResponseMapper.INSTANCE.map(saved);
         } catch (ObjectOptimisticLockingFailureException ole) {
+            bookingMetrics.conflict(ConflictCause.OPTIMISTIC_LOCK);
             throw new BookingConflictException("Reservation was updated concurrently. Please retry.");
         } catch (DataIntegrityViolationException dataIntegrityViolationException) {
             if (isOverlapViolation(dataIntegrityViolationException)) {
+                bookingMetrics.conflict(ConflictCause.ROOM_ALREADY_BOOKED);
                 throw new RoomAlreadyBookedException("Room is already booked for the selected dates.");
             }
             throw dataIntegrityViolationException;
         }
     }
 
+    @ConcurrencyLimited(LimitBudget.WRITE)
     @Transactional
     public void cancelReservation(UUID reservationId) {
 
         Reservation existing = bookingRepository.findById(reservationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationId));
+        // Cancelling twice changes nothing, and must not release the nights a second time.
+        if (existing.getStatus() == BookingStatusType.CANCELLED) {
+            return;
+        }
 
         existing.setStatus(BookingStatusType.CANCELLED);
         try {
-            bookingRepository.save(existing);
+            bookingRepository.saveAndFlush(existing);
+            eventPublisher.publishEvent(ReservationChangedEvent.cancelled(existing));
         } catch (DataIntegrityViolationException dataIntegrityViolationException) {
             if (isOverlapViolation(dataIntegrityViolationException)) {
+                bookingMetrics.conflict(ConflictCause.ROOM_ALREADY_BOOKED);
                 throw new RoomAlreadyBookedException("Room is already booked for the selected dates.");
             }
             throw dataIntegrityViolationException;
         }
     }
 
+    @Transactional(readOnly = true)
     public List<ReservationResponse> getAllReservations(final int page, final int size) {
-        return bookingRepository.findAll(PageRequest.of(page, size)).getContent().stream()
+        return bookingRepository.findFirstSlice(pageOf(page, size)).getContent().stream()
                 .map(BookingResponseMapper.INSTANCE::map)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<ReservationResponse> getAllReservationsByUser(final UUID id, final int page, final int size) {
-        return bookingRepository.findAllByUserId(id, PageRequest.of(page, size))
+        return bookingRepository.findAllByUserId(id, pageOf(page, size))
                 .getContent()
                 .stream()
                 .map(BookingResponseMapper.INSTANCE::map)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public ReservationPageResponse scrollReservations(final String cursor, final int size) {
+        final var pageable = pageOf(0, size);
+        if (cursor == null) {
+            return toPage(bookingRepository.findFirstSlice(pageable));
+        }
+        final var after = ReservationCursor.decode(cursor);
+        return toPage(bookingRepository.findSliceAfter(after.createdDate(), after.id(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPageResponse scrollReservationsByUser(final UUID id, final String cursor, final int size) {
+        final var pageable = pageOf(0, size);
+        if (cursor == null) {
+            return toPage(bookingRepository.findFirstSliceByUserId(id, pageable));
+        }
+        final var after = ReservationCursor.decode(cursor);
+        return toPage(bookingRepository.findSliceByUserIdAfter(id, after.createdDate(), after.id(), pageable));
+    }
+
+    @Transactional(readOnly = true)
     public ReservationResponse getReservationById(final UUID id) {
         return BookingResponseMapper.INSTANCE.map(bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + id)));
     }
 
+    public List<RoomsDto> getRooms() {
+        return roomCatalog.findAll();
+    }
+
+    public RoomsDto getRoomByNumber(final Long roomNumber) {
+        return roomCatalog.findByRoomNumber(roomNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomNumber));
+    }
+
+    @ConcurrencyLimited(LimitBudget.READ)
     public List<RoomsDto> getAvailableRooms(final LocalDate checkin, final LocalDate checkout) {
-        return roomsRepository.findAll()
-                .stream()
-                .filter(room -> bookingRepository
-                        .findOverlappingReservations(room.getId(), checkin, checkout)
-                        .isEmpty())
-                .map(roomsEntity -> RoomsDto.builder()
-                        .id(roomsEntity.getId())
-                        .roomNumber(roomsEntity.getRoomNumber())
-                        .type(roomsEntity.getType())
-                        .build())
-                .toList();
+        final List<RoomsDto> available = availabilitySearchCoalescer.search(checkin, checkout,
+                () -> availabilityIndex.findAvailableRooms(checkin, checkout)
+                        .orElseGet(() -> roomsRepository.findAvailableRooms(checkin, checkout)
+                                .stream()
+                                .map(RoomsMapper.INSTANCE::map)
+                                .toList()));
+        bookingMetrics.availableRooms(available.size());
+        return available;
+    }
+
+    private static ReservationPageResponse toPage(final Slice<Reservation> slice) {
+        final List<Reservation> content = slice.getContent();
+        return ReservationPageResponse.builder()
+                .items(content.stream().map(BookingResponseMapper.INSTANCE::map).toList())
+                .nextCursor(slice.hasNext() ? ReservationCursor.of(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private static BatchReservationItem batchFailure(final int index, final BatchItemStatus status, final String message) {
+        return BatchReservationItem.builder()
+                .index(index)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private static BatchReservationResponse toBatchResponse(final BatchMode mode, final BatchReservationItem[] results) {
+        final int created = (int) Arrays.stream(results).filter(item -> item.status() == BatchItemStatus.CREATED).count();
+        return BatchReservationResponse.builder()
+                .mode(mode)
+                .created(created)
+                .failed(results.length - created)
+                .items(List.of(results))
+                .build();
+    }
+
+    // PageRequest rejects a negative page or a size below one with IllegalArgumentException, which would surface
+    // as a 500; an unbounded size would read the whole table in one page.
+    private static PageRequest pageOf(final int page, final int size) {
+        final var errors = new HashMap<String, String>();
+        if (page < 0) {
+            errors.put("page", "must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            errors.put("size", "must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST, errors);
+        }
+        return PageRequest.of(page, size);
+    }
+
+    // The database's daterange and reservation_max_stay CHECKs reject these too, but as an unmapped error instead of a 400.
+    private static void checkStayWindow(final LocalDate checkin, final LocalDate checkout) {
+        if (!checkin.isBefore(checkout)) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST, Map.of("checkoutDate", CHECKOUT_NOT_AFTER_CHECKIN));
+        }
+        if (isTooLong(checkin, checkout)) {
+            throw new ValidationException(HttpStatus.BAD_REQUEST, Map.of("checkoutDate", STAY_TOO_LONG));
+        }
+    }
+
+    private static boolean isTooLong(final LocalDate checkin, final LocalDate checkout) {
+        return checkout.isAfter(checkin.plusDays(Reservation.MAX_STAY_NIGHTS));
+    }
+
+    // Without the pre-check an overlapping write fails on flush with 23P01 and is reported as ROOM_ALREADY_BOOKED.
+    private boolean isPreChecked() {
+        return bookingWriteConfig.getConflictCheck() == ConflictCheck.PRE_CHECK;
     }
 
     private boolean isOverlapViolation(Throwable throwable) {
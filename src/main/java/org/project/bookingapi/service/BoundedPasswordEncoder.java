@@ -0,0 +1,121 @@
+package org.project.bookingapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs hashing and verification on a small fixed pool with a bounded queue, so a login or registration
+ * storm is capped at that many cores instead of competing with booking traffic. A full queue is shed
+ * with a {@link LoadSheddingException}.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final PasswordEncoder delegate;
+
+    private final Duration retryAfter;
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedPasswordEncoder(final PasswordEncoder delegate, final int threads, final int queueCapacity,
+                                  final Duration retryAfter) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only parses the stored hash, so it stays on the caller.
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+        FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+                .description("Password hashing calls shed because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // Highest BCrypt strength in [min, max] whose hash takes no longer than target on this machine.
+    public static int calibrateStrength(final int minStrength, final int maxStrength, final Duration target) {
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength));
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            final long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(candidate));
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            if (candidate > minStrength && elapsed.compareTo(target) > 0) {
+                break;
+            }
+            strength = candidate;
+            log.debug("BCrypt strength {} hashes in {} ms", candidate, elapsed.toMillis());
+        }
+        log.info("Calibrated BCrypt strength {} (target {} ms); set booking.password-hashing.strength to pin it", strength, target.toMillis());
+        return strength;
+    }
+
+    private <T> T submit(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new LoadSheddingException("Too many concurrent password hashes, try again shortly", retryAfter);
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.project.bookingapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Remembers tokens the delegate has already verified, keyed by a SHA-256 of the token, until they expire.
+ * Tokens without an expiry and failed decodes are never cached; an entry found past its expiry goes back
+ * through the delegate so the usual validation (and clock skew) applies.
+ */
+public class CachingJwtDecoder implements JwtDecoder, MeterBinder {
+
+    private final JwtDecoder delegate;
+
+    private final Clock clock;
+
+    private final Cache<String, Jwt> verified;
+
+    public CachingJwtDecoder(final JwtDecoder delegate, final long maximumSize, final Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(final String token) {
+        final var key = hash(token);
+        final var cached = verified.getIfPresent(key);
+        if (cached != null && clock.instant().isBefore(cached.getExpiresAt())) {
+            return cached;
+        }
+
+        final var jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && clock.instant().isBefore(jwt.getExpiresAt())) {
+            verified.put(key, jwt);
+        } else {
+            verified.invalidate(key);
+        }
+        return jwt;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt");
+    }
+
+    private static String hash(final String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private final class UntilExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Jwt jwt, final long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Jwt jwt, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Jwt jwt, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.project.bookingapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.config.IdempotencyConfig;
+import org.project.bookingapi.entity.IdempotencyKey;
+import org.project.bookingapi.exception.IdempotencyKeyInFlightException;
+import org.project.bookingapi.exception.IdempotencyKeyReusedException;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.project.bookingapi.model.IdempotentResponse;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.ReservationResponse;
+import org.project.bookingapi.repository.IdempotencyKeyRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes reservation creation safe to retry under an {@code Idempotency-Key}. Completed responses are kept in
+ * a bounded local cache backed by {@code booking.idempotency_key}; a duplicate that arrives while the first
+ * request is still running waits briefly for its result instead of booking again, and is told to retry if the
+ * first request has not finished by then.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotentReservationWriter writer;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyConfig config;
+
+    private final Cache<String, StoredResponse> completed;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(final IdempotentReservationWriter writer, final IdempotencyKeyRepository idempotencyKeyRepository,
+                              final TransactionTemplate transactionTemplate, final ObjectMapper objectMapper,
+                              final IdempotencyConfig config) {
+        this.writer = writer;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(config.getCacheSize())
+                .expireAfterWrite(config.getTtl())
+                .build();
+    }
+
+    // Not limited itself: replays and duplicates are answered without a write permit, so a parked duplicate
+    // neither holds one nor feeds its wait into the limiter's latency samples. Only the writer takes a permit.
+    public IdempotentResponse createReservation(final String idempotencyKey, final ReservationRequest request) {
+        final var key = scoped(idempotencyKey);
+        final var requestHash = hash(request);
+
+        final var stored = find(key);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+
+        final var execution = new InFlight(requestHash, new CompletableFuture<>());
+        final var running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            return new IdempotentResponse(await(running, requestHash), true);
+        }
+        try {
+            final var response = writer.book(key, requestHash, request);
+            completed.put(key, new StoredResponse(requestHash, response));
+            execution.result().complete(response);
+            return new IdempotentResponse(response, false);
+        } catch (LoadSheddingException ex) {
+            // Shed before it ran, so there is nothing another instance could have completed.
+            execution.result().completeExceptionally(ex);
+            throw ex;
+        } catch (RuntimeException ex) {
+            // Another instance may have completed the same key concurrently; its response wins.
+            final var concurrent = findOnPrimary(key).map(this::read).orElse(null);
+            if (concurrent != null && concurrent.requestHash().equals(requestHash)) {
+                completed.put(key, concurrent);
+                execution.result().complete(concurrent.response());
+                return new IdempotentResponse(concurrent.response(), true);
+            }
+            execution.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${booking.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        final int purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(config.getTtl()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency key(s)", purged);
+        }
+    }
+
+    private StoredResponse find(final String key) {
+        final var cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var stored = findOnPrimary(key)
+                .filter(entry -> entry.getCreatedAt().isAfter(LocalDateTime.now().minus(config.getTtl())))
+                .map(this::read)
+                .orElse(null);
+        if (stored != null) {
+            completed.put(key, stored);
+        }
+        return stored;
+    }
+
+    // findById alone runs read-only and may be served by a lagging read replica; keys must be read where they are written.
+    private Optional<IdempotencyKey> findOnPrimary(final String key) {
+        return transactionTemplate.execute(status -> idempotencyKeyRepository.findById(key));
+    }
+
+    private static IdempotentResponse replay(final StoredResponse stored, final String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key was already used with a different request");
+        }
+        return new IdempotentResponse(stored.response(), true);
+    }
+
+    private ReservationResponse await(final InFlight running, final String requestHash) {
+        if (!running.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key is in use by a different request");
+        }
+        try {
+            return running.result().get(config.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw inFlight();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw inFlight();
+        }
+    }
+
+    private IdempotencyKeyInFlightException inFlight() {
+        return new IdempotencyKeyInFlightException("The original request with this Idempotency-Key is still running",
+                config.getWaitTimeout());
+    }
+
+    // Keys are scoped to the caller so one user can never replay another user's response.
+    private static String scoped(final String idempotencyKey) {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        final var principal = authentication == null ? "anonymous" : authentication.getName();
+        return principal + ":" + idempotencyKey;
+    }
+
+    private String hash(final ReservationRequest request) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private StoredResponse read(final IdempotencyKey entry) {
+        try {
+            return new StoredResponse(entry.getRequestHash(), objectMapper.readValue(entry.getResponse(), ReservationResponse.class));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record StoredResponse(String requestHash, ReservationResponse response) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<ReservationResponse> result) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.project.bookingapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.admission.ConcurrencyLimited;
+import org.project.bookingapi.enums.LimitBudget;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.ReservationResponse;
+import org.project.bookingapi.repository.IdempotencyKeyRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Books a reservation and records its idempotency key in one transaction. Kept apart from
+ * {@link IdempotencyService} so only the request that actually books takes a write permit; replays and
+ * duplicates waiting on it never do.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotentReservationWriter {
+
+    private final BookingService bookingService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @ConcurrencyLimited(LimitBudget.WRITE)
+    public ReservationResponse book(final String key, final String requestHash, final ReservationRequest request) {
+        return transactionTemplate.execute(status -> {
+            final var created = bookingService.createReservation(request);
+            idempotencyKeyRepository.insert(key, requestHash, write(created), LocalDateTime.now());
+            return created;
+        });
+    }
+
+    private String write(final ReservationResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -4,23 +4,33 @@ import lombok.RequiredArgsConstructor;
 import org.project.bookingapi.repository.UsersRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsersRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(final String username) {
-        return userRepository.findByUsername(username).map(user -> User.builder()
+        return userCache.findByUsername(username).map(user -> User.builder()
                 .username(username)
-                .password(user.getPassword())
+                .password(user.password())
                 .build())
                 .orElseThrow(() -> new UsernameNotFoundException("User with username [%s] not found".formatted(username)));
     }
 
+    // Called after a successful login whose stored hash used weaker parameters than the current encoder.
+    @Override
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        userCache.invalidate(user.getUsername());
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
 }
\ No newline at end of file
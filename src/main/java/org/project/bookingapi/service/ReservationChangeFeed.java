@@ -0,0 +1,87 @@
+package org.project.bookingapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.config.OutboxConfig;
+import org.project.bookingapi.mapper.ReservationChangeMapper;
+import org.project.bookingapi.model.ReservationChange;
+import org.project.bookingapi.model.response.ReservationChangesResponse;
+import org.project.bookingapi.repository.ReservationOutboxRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Long-poll reads of the sequenced outbox. A poll that finds nothing after its cursor is parked until the
+ * relay's next run sees the feed advance past it, or until it times out with an empty page.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationChangeFeed {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final OutboxConfig config;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public DeferredResult<ReservationChangesResponse> poll(final long since, final int limit, final Duration wait) {
+        final int pageSize = Math.clamp(limit, 1, config.getMaxPageSize());
+        final var timeout = wait == null || wait.compareTo(config.getLongPollTimeout()) > 0 ? config.getLongPollTimeout() : wait;
+        final var result = new DeferredResult<ReservationChangesResponse>(Math.max(1, timeout.toMillis()), page(since, List.of()));
+
+        final var changes = read(since, pageSize);
+        if (!changes.isEmpty() || !timeout.isPositive()) {
+            result.setResult(page(since, changes));
+            return result;
+        }
+        final var waiter = new Waiter(since, pageSize, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        return result;
+    }
+
+    // Re-reads once per distinct cursor among the parked polls, and only if the feed has moved past it.
+    public void changesAvailable() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        final long last = reservationOutboxRepository.findLastSequenceNumber();
+        final Map<Long, List<Waiter>> bySince = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.since() < last && !waiter.result().isSetOrExpired()) {
+                bySince.computeIfAbsent(waiter.since(), since -> new ArrayList<>()).add(waiter);
+            }
+        }
+        bySince.forEach((since, group) -> {
+            final int pageSize = group.stream().mapToInt(Waiter::limit).max().orElseThrow();
+            final var changes = read(since, pageSize);
+            for (Waiter waiter : group) {
+                waiter.result().setResult(page(since, changes.subList(0, Math.min(waiter.limit(), changes.size()))));
+            }
+        });
+    }
+
+    private List<ReservationChange> read(final long since, final int limit) {
+        return reservationOutboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(since, Limit.of(limit))
+                .stream()
+                .map(ReservationChangeMapper.INSTANCE::map)
+                .toList();
+    }
+
+    private static ReservationChangesResponse page(final long since, final List<ReservationChange> changes) {
+        return ReservationChangesResponse.builder()
+                .items(changes)
+                .nextCursor(changes.isEmpty() ? since : changes.get(changes.size() - 1).sequenceNumber())
+                .build();
+    }
+
+    private record Waiter(long since, int limit, DeferredResult<ReservationChangesResponse> result) {
+    }
+}
@@ -0,0 +1,114 @@
+package org.project.bookingapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ExportFormat;
+import org.project.bookingapi.mapper.BookingResponseMapper;
+import org.project.bookingapi.repository.BookingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes reservations straight from a database cursor to the response. Each row is detached once written,
+ * so heap use does not depend on the number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    private static final String CSV_HEADER =
+            "id,user_id,room_id,room_number,first_name,last_name,checkin_date,checkout_date,status,created_date";
+
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(final LocalDate from, final LocalDate to, final Collection<BookingStatusType> statuses,
+                       final ExportFormat format, final OutputStream outputStream) throws IOException {
+        try (Stream<Reservation> reservations = bookingRepository.streamForExport(from, to, statuses)) {
+            return format == ExportFormat.CSV
+                    ? writeCsv(reservations.iterator(), outputStream)
+                    : writeNdjson(reservations.iterator(), outputStream);
+        }
+    }
+
+    private long writeNdjson(final Iterator<Reservation> reservations, final OutputStream outputStream) throws IOException {
+        // The generator buffers and flushes on its own; flushing per row would mean a socket write per row.
+        final var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            while (reservations.hasNext()) {
+                final var reservation = reservations.next();
+                writer.writeValue(generator, BookingResponseMapper.INSTANCE.map(reservation));
+                generator.writeRaw('\n');
+                entityManager.detach(reservation);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(final Iterator<Reservation> reservations, final OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            while (reservations.hasNext()) {
+                final var reservation = reservations.next();
+                writer.write(String.valueOf(reservation.getId()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getUserId()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getRoomId()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getRoomNumber()));
+                writer.write(',');
+                writeCsvField(writer, reservation.getFirstName());
+                writer.write(',');
+                writeCsvField(writer, reservation.getLastName());
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getCheckinDate()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getCheckoutDate()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getStatus()));
+                writer.write(',');
+                writer.write(String.valueOf(reservation.getCreatedDate()));
+                writer.write('\n');
+                entityManager.detach(reservation);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeCsvField(final Writer writer, final String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
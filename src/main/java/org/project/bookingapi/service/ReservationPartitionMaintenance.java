@@ -0,0 +1,81 @@
+package org.project.bookingapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.config.ReservationPartitionConfig;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.repository.BookingRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps the month partitions of {@code booking.reservation} ahead of bookings and detaches the ones whose stays
+ * all ended long ago. Both steps run in database functions that serialize on an advisory lock, so any number of
+ * instances can run them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationPartitionMaintenance {
+
+    private final BookingRepository bookingRepository;
+    private final ReservationPartitionConfig config;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.reservation-partitions.maintenance-interval:PT12H}",
+            initialDelayString = "${booking.reservation-partitions.maintenance-interval:PT12H}")
+    public void scheduledMaintain() {
+        maintain();
+    }
+
+    public void maintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            premake();
+            archive();
+        } catch (RuntimeException ex) {
+            log.warn("Reservation partition maintenance failed, retrying on the next run", ex);
+        }
+    }
+
+    void premake() {
+        final var month = LocalDate.now().withDayOfMonth(1);
+        int created = 0;
+        for (int i = 0; i <= config.getPremakeMonths(); i++) {
+            if (bookingRepository.createPartition(month.plusMonths(i))) {
+                created++;
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} reservation partition(s) up to {}", created, month.plusMonths(config.getPremakeMonths()));
+        }
+    }
+
+    void archive() {
+        if (config.getArchiveAfter() == null) {
+            return;
+        }
+        final var today = LocalDate.now();
+        // A partition ending on a date holds stays that check out up to MAX_STAY_NIGHTS later; never archive one
+        // that may still hold a stay that has not ended.
+        var endedBefore = today.minus(config.getArchiveAfter());
+        final var latest = today.minusDays(Reservation.MAX_STAY_NIGHTS);
+        if (endedBefore.isAfter(latest)) {
+            endedBefore = latest;
+        }
+        final var archived = bookingRepository.archivePartitions(endedBefore.withDayOfMonth(1));
+        if (!archived.isEmpty()) {
+            log.info("Archived reservation partitions {} into booking_archive", archived);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.project.bookingapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.bookingapi.event.RoomsChangedEvent;
+import org.project.bookingapi.mapper.RoomsMapper;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of {@code booking.rooms}, swapped as a whole on refresh. Lookups for rooms
+ * missing from the copy go to the database, and a room found there triggers a refresh. Rooms written
+ * through JPA drop the copy once their transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCatalog implements MeterBinder {
+
+    private final RoomsRepository roomsRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // Bumped by invalidate(). A snapshot loaded under an older generation may hold rooms read before the change,
+    // so lookups treat it as missing and reload, even if a load that was already running stored it afterwards.
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public Optional<RoomsDto> findById(final UUID id) {
+        final var room = snapshot().byId().get(id);
+        if (room != null) {
+            hits.increment();
+            return Optional.of(room);
+        }
+        misses.increment();
+        final var loaded = roomsRepository.findById(id).map(RoomsMapper.INSTANCE::map);
+        loaded.ifPresent(found -> refresh());
+        return loaded;
+    }
+
+    public Map<UUID, RoomsDto> findAllById(final Collection<UUID> ids) {
+        final var current = snapshot();
+        final var result = new HashMap<UUID, RoomsDto>(ids.size() * 2);
+        final var missing = ids.stream().filter(id -> !current.byId().containsKey(id)).toList();
+        ids.forEach(id -> {
+            final var room = current.byId().get(id);
+            if (room != null) {
+                result.put(id, room);
+            }
+        });
+        hits.add(result.size());
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            roomsRepository.findAllById(missing).forEach(room -> result.put(room.getId(), RoomsMapper.INSTANCE.map(room)));
+            if (result.size() > ids.size() - missing.size()) {
+                refresh();
+            }
+        }
+        return result;
+    }
+
+    public Optional<RoomsDto> findByRoomNumber(final Long roomNumber) {
+        final var room = snapshot().byNumber().get(roomNumber);
+        if (room != null) {
+            hits.increment();
+            return Optional.of(room);
+        }
+        misses.increment();
+        final var loaded = roomsRepository.findByRoomNumber(roomNumber).map(RoomsMapper.INSTANCE::map);
+        loaded.ifPresent(found -> refresh());
+        return loaded;
+    }
+
+    public List<RoomsDto> findAll() {
+        hits.increment();
+        return snapshot().rooms();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.room-catalog.refresh-interval:PT5M}",
+            initialDelayString = "${booking.room-catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        snapshot = load(generation.get());
+    }
+
+    // Drops the cached copy; the next lookup reloads it.
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    // After commit, so the reload cannot read the rooms as they were before the change.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsChanged(final RoomsChangedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("booking.room.catalog.lookups", hits, LongAdder::sum)
+                .description("Room lookups answered from the catalog")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("booking.room.catalog.lookups", misses, LongAdder::sum)
+                .description("Room lookups that went to the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("booking.room.catalog.size", this, catalog -> {
+                    final var current = catalog.snapshot;
+                    return current == null ? 0 : current.rooms().size();
+                })
+                .description("Rooms held in the catalog")
+                .register(meterRegistry);
+    }
+
+    private Snapshot snapshot() {
+        var current = snapshot;
+        if (current == null || current.generation() != generation.get()) {
+            // A lock rather than synchronized, so a virtual thread waiting on the load does not pin its carrier.
+            loadLock.lock();
+            try {
+                current = snapshot;
+                if (current == null || current.generation() != generation.get()) {
+                    current = load(generation.get());
+                    snapshot = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load(final long loadGeneration) {
+        final var rooms = roomsRepository.findAll(Sort.by("roomNumber"))
+                .stream()
+                .map(RoomsMapper.INSTANCE::map)
+                .toList();
+        log.debug("Room catalog loaded: {} rooms", rooms.size());
+        return new Snapshot(loadGeneration, rooms,
+                rooms.stream().collect(Collectors.toUnmodifiableMap(RoomsDto::id, Function.identity())),
+                rooms.stream().filter(room -> room.roomNumber() != null)
+                        .collect(Collectors.toUnmodifiableMap(RoomsDto::roomNumber, Function.identity(), (first, second) -> first)));
+    }
+
+    private record Snapshot(
+            long generation,
+            List<RoomsDto> rooms,
+            Map<UUID, RoomsDto> byId,
+            Map<Long, RoomsDto> byNumber) {
+    }
+}
@@ -0,0 +1,83 @@
+package org.project.bookingapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.project.bookingapi.config.UserCacheConfig;
+import org.project.bookingapi.mapper.UserMapper;
+import org.project.bookingapi.model.UserAccount;
+import org.project.bookingapi.repository.UsersRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Short-lived cache of accounts by username, in front of {@link UsersRepository#findByUsername}. Usernames
+ * that do not exist are remembered separately; concurrent lookups of the same name share one query.
+ */
+@Component
+public class UserCache implements MeterBinder {
+
+    private final UsersRepository usersRepository;
+    private final Cache<String, UserAccount> accounts;
+    private final Cache<String, Boolean> unknown;
+
+    public UserCache(final UsersRepository usersRepository, final UserCacheConfig config) {
+        this.usersRepository = usersRepository;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        this.unknown = Caffeine.newBuilder()
+                .maximumSize(config.getUnknownMaximumSize())
+                .expireAfterWrite(config.getUnknownTtl())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserAccount> findByUsername(final String username) {
+        final var cached = accounts.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (unknown.getIfPresent(username) != null) {
+            return Optional.empty();
+        }
+        final var loaded = accounts.get(username, key -> usersRepository.findByUsername(key)
+                .map(UserMapper.INSTANCE::toAccount)
+                .orElse(null));
+        if (loaded == null) {
+            unknown.put(username, Boolean.TRUE);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    // Evicts now and, inside a transaction, again after commit so a lookup racing the write cannot re-cache the old row.
+    public void invalidate(final String username) {
+        evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, unknown, "users.unknown");
+    }
+
+    private void evict(final String username) {
+        accounts.invalidate(username);
+        unknown.invalidate(username);
+    }
+}
@@ -2,12 +2,15 @@ package org.project.bookingapi.service;
 
 import static org.springframework.http.HttpStatus.CONFLICT;
 
-import jakarta.transaction.Transactional;
 import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.postgresql.util.PSQLException;
 import org.project.bookingapi.entity.Users;
 import org.project.bookingapi.exception.ValidationException;
 import org.project.bookingapi.repository.UsersRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -17,26 +20,50 @@ public class UserRegistrationService {
 
     private final UsersRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
-    @Transactional
+    // One combined lookup rejects a taken email or username before the password is hashed, so a burst of
+    // duplicate signups does not hold the bounded hashing pool. The unique constraints still settle a race
+    // between two signups that both passed the lookup.
     public Users registerUser(Users user) {
-        final var errors = new HashMap<String, String>();
-
-        if (userRepository.existsByEmail(user.getEmail())) {
-            errors.put("email", "Email [%s] is already taken".formatted(user.getEmail()));
-        }
-
-        if (userRepository.existsByUsername(user.getUsername())) {
-            errors.put("username", "Username [%s] is already taken".formatted(user.getUsername()));
+        final var taken = conflicts(user);
+        if (!taken.isEmpty()) {
+            throw new ValidationException(CONFLICT, taken);
         }
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        if (!errors.isEmpty()) {
+        try {
+            final var saved = userRepository.saveAndFlush(user);
+            userCache.invalidate(saved.getUsername());
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (!isUniqueViolation(ex)) {
+                throw ex;
+            }
+            final var errors = conflicts(user);
+            if (errors.isEmpty()) {
+                throw ex;
+            }
             throw new ValidationException(CONFLICT, errors);
         }
+    }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+    private Map<String, String> conflicts(final Users user) {
+        final var errors = new HashMap<String, String>();
+        for (Users existing : userRepository.findByEmailOrUsername(user.getEmail(), user.getUsername())) {
+            if (existing.getEmail().equals(user.getEmail())) {
+                errors.put("email", "Email [%s] is already taken".formatted(user.getEmail()));
+            }
+            if (existing.getUsername().equals(user.getUsername())) {
+                errors.put("username", "Username [%s] is already taken".formatted(user.getUsername()));
+            }
+        }
+        return errors;
+    }
 
-        return userRepository.save(user);
+    private static boolean isUniqueViolation(final Throwable throwable) {
+        return ExceptionUtils.getRootCause(throwable) instanceof PSQLException root
+                && "23505".equals(root.getSQLState());
     }
 
-}
\ No newline at end of file
+}
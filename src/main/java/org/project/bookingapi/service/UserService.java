@@ -3,7 +3,6 @@ package org.project.bookingapi.service;
 import lombok.RequiredArgsConstructor;
 import org.project.bookingapi.mapper.UserMapper;
 import org.project.bookingapi.model.UserProfileDto;
-import org.project.bookingapi.repository.UsersRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -13,10 +12,10 @@ import static org.springframework.http.HttpStatus.GONE;
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UsersRepository userRepository;
+    private final UserCache userCache;
 
     public UserProfileDto getUserByUsername(final String username) {
-        return UserMapper.INSTANCE.map(userRepository.findByUsername(username)
+        return UserMapper.INSTANCE.map(userCache.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(GONE, "The user account has been deleted or inactivated")));
     }
 }
\ No newline at end of file
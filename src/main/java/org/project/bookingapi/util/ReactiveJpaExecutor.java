@@ -2,42 +2,60 @@ package org.project.bookingapi.util;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
+/**
+ * Runs blocking JPA calls off the subscriber's thread. With virtual threads enabled every call gets its own
+ * virtual thread, so concurrency is bounded by the connection pool rather than by boundedElastic's thread cap.
+ */
 @Component
-public class ReactiveJpaExecutor {
+public class ReactiveJpaExecutor implements DisposableBean {
 
-    public <T> Mono<T> monoBlocking(Supplier<T> supplier) {
-        var mdc = MDC.getCopyOfContextMap();
+    private final Scheduler scheduler;
 
-        return Mono.fromSupplier(() -> {
-                    if (ObjectUtils.isNotEmpty(mdc)) MDC.setContextMap(mdc);
-                    try {
-                        return supplier.get();
-                    } finally {
-                        MDC.clear();
-                    }
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+    public ReactiveJpaExecutor(@Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+        this.scheduler = virtualThreads
+                ? Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jpa-virtual")
+                : Schedulers.boundedElastic();
+    }
+
+    public <T> Mono<T> monoBlocking(Supplier<T> supplier) {
+        return withMdc(supplier)
+                .subscribeOn(scheduler);
     }
 
     public <T> Flux<T> fluxBlocking(Supplier<java.util.List<T>> supplier) {
+        return withMdc(supplier)
+                .subscribeOn(scheduler)
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != Schedulers.boundedElastic()) {
+            scheduler.dispose();
+        }
+    }
+
+    private static <T> Mono<T> withMdc(Supplier<T> supplier) {
         var mdc = MDC.getCopyOfContextMap();
 
         return Mono.fromSupplier(() -> {
-                    if (ObjectUtils.isNotEmpty(mdc)) MDC.setContextMap(mdc);
-                    try {
-                        return supplier.get();
-                    } finally {
-                        MDC.clear();
-                    }
-                })
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMapMany(Flux::fromIterable);
+            if (ObjectUtils.isNotEmpty(mdc)) MDC.setContextMap(mdc);
+            try {
+                return supplier.get();
+            } finally {
+                MDC.clear();
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+-- ================================================
+-- Keyset pagination over (created_date, id)
+-- ================================================
+
+UPDATE booking.reservation SET created_date = CURRENT_TIMESTAMP WHERE created_date IS NULL;
+
+ALTER TABLE booking.reservation
+    ALTER COLUMN created_date SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN created_date SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_created_id ON booking.reservation (created_date, id);
+CREATE INDEX IF NOT EXISTS idx_reservation_user_created_id ON booking.reservation (user_id, created_date, id);
@@ -0,0 +1,12 @@
+-- ================================================
+-- Completed responses for Idempotency-Key replays
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS booking.idempotency_key (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    );
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_created_at ON booking.idempotency_key (created_at);
@@ -0,0 +1,7 @@
+-- ================================================
+-- username and email are UNIQUE, which already indexes them; the extra
+-- indexes only doubled the index writes on every registration.
+-- ================================================
+
+DROP INDEX IF EXISTS booking.idx_users_username;
+DROP INDEX IF EXISTS booking.idx_users_email;
@@ -0,0 +1,22 @@
+-- ================================================
+-- Outbox of reservation changes, written in the same transaction as the change
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS booking.reservation_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    reservation_id UUID NOT NULL,
+    room_id UUID NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    checkin_date DATE NOT NULL,
+    checkout_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Assigned by the relay in commit order; the change feed cursor.
+    sequence_number BIGINT UNIQUE,
+    published_at TIMESTAMP
+    );
+
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_unsequenced ON booking.reservation_outbox (id)
+    WHERE sequence_number IS NULL;
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_unpublished ON booking.reservation_outbox (sequence_number)
+    WHERE sequence_number IS NOT NULL AND published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_published_at ON booking.reservation_outbox (published_at);
@@ -0,0 +1,196 @@
+-- ================================================
+-- Partition reservations by check-in month
+-- ================================================
+-- A partitioned table cannot enforce an exclusion constraint across partitions, so reservation_no_overlap
+-- moves to booking.reservation_guard: one narrow row per reservation, kept in step by trigger. Its primary key
+-- also keeps reservation ids unique, which the partitioned primary key (id, checkin_date) no longer does.
+-- Stays are capped at 365 nights, so a date-range query can bound checkin_date from below and skip every
+-- partition that ended more than a year before the range starts.
+
+CREATE SCHEMA IF NOT EXISTS booking_archive;
+
+ALTER TABLE booking.reservation DROP CONSTRAINT reservation_no_overlap;
+ALTER TABLE booking.reservation RENAME TO reservation_unpartitioned;
+
+CREATE TABLE booking.reservation (
+    id UUID NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    user_id UUID NOT NULL,
+    room_number INTEGER,
+    room_id UUID NOT NULL,
+    checkin_date DATE NOT NULL,
+    checkout_date DATE NOT NULL,
+    status VARCHAR(50) DEFAULT 'ACTIVE',
+    version BIGINT,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_date TIMESTAMP,
+    period daterange GENERATED ALWAYS AS (daterange(checkin_date, checkout_date, '[)')) STORED,
+    CONSTRAINT reservation_max_stay CHECK (checkout_date <= checkin_date + 365)
+    ) PARTITION BY RANGE (checkin_date);
+
+-- Stays booked beyond the premade months land here until their month gets a partition.
+CREATE TABLE booking.reservation_default PARTITION OF booking.reservation DEFAULT;
+
+CREATE TABLE booking.reservation_guard (
+    reservation_id UUID PRIMARY KEY,
+    room_id UUID NOT NULL,
+    checkin_date DATE NOT NULL,
+    checkout_date DATE NOT NULL,
+    status VARCHAR(50),
+    period daterange GENERATED ALWAYS AS (daterange(checkin_date, checkout_date, '[)')) STORED
+    );
+
+-- ================================================
+-- Partition maintenance, called by the application on start-up and on a schedule
+-- ================================================
+
+-- Both functions give up on a lock they cannot get within five seconds rather than queue traffic behind them;
+-- the next scheduled run retries.
+
+-- Creates the partition for the month containing for_month; false when it already exists.
+CREATE FUNCTION booking.create_reservation_partition(for_month DATE) RETURNS BOOLEAN
+    LANGUAGE plpgsql SET lock_timeout = '5s' AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', for_month)::date;
+    upper_bound DATE := (date_trunc('month', for_month) + interval '1 month')::date;
+    partition_name TEXT := 'reservation_' || to_char(for_month, 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('booking.reservation partitions'));
+    IF to_regclass(format('booking.%I', partition_name)) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Created detached and attached after, which blocks reads and writes on the parent for less time than
+    -- CREATE TABLE ... PARTITION OF.
+    EXECUTE format('CREATE TABLE booking.%I (LIKE booking.reservation INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS)',
+                   partition_name);
+    -- Rows for this month in the default partition must leave it before the month can be attached. Deleting
+    -- them there drops their guard rows, which are restored once they are back in the table.
+    EXECUTE format($sql$
+        WITH moved AS (
+            DELETE FROM booking.reservation_default
+            WHERE checkin_date >= %1$L AND checkin_date < %2$L
+            RETURNING id, first_name, last_name, user_id, room_number, room_id, checkin_date, checkout_date,
+                      status, version, created_date, update_date)
+        INSERT INTO booking.%3$I (id, first_name, last_name, user_id, room_number, room_id, checkin_date,
+                                  checkout_date, status, version, created_date, update_date)
+        SELECT * FROM moved
+        $sql$, lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE booking.reservation ATTACH PARTITION booking.%I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    EXECUTE format($sql$
+        INSERT INTO booking.reservation_guard (reservation_id, room_id, checkin_date, checkout_date, status)
+        SELECT id, room_id, checkin_date, checkout_date, status FROM booking.%I
+        $sql$, partition_name);
+    RETURN TRUE;
+END $$;
+
+-- Detaches every month partition that ends on or before the given date into booking_archive, and drops the
+-- guard rows of its reservations. Returns the names of the archived partitions.
+CREATE FUNCTION booking.archive_reservation_partitions(ended_before DATE) RETURNS SETOF TEXT
+    LANGUAGE plpgsql SET lock_timeout = '5s' AS $$
+DECLARE
+    archived RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('booking.reservation partitions'));
+    FOR archived IN
+        SELECT c.relname AS partition_name,
+               to_date(substring(c.relname FROM '^reservation_(\d{4}_\d{2})$'), 'YYYY_MM') AS lower_bound
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'booking.reservation'::regclass
+          AND c.relname ~ '^reservation_\d{4}_\d{2}$'
+        ORDER BY 2
+    LOOP
+        EXIT WHEN (archived.lower_bound + interval '1 month')::date > ended_before;
+        EXECUTE format('ALTER TABLE booking.reservation DETACH PARTITION booking.%I', archived.partition_name);
+        EXECUTE format('ALTER TABLE booking.%I SET SCHEMA booking_archive', archived.partition_name);
+        DELETE FROM booking.reservation_guard
+        WHERE checkin_date >= archived.lower_bound
+          AND checkin_date < (archived.lower_bound + interval '1 month')::date;
+        RETURN NEXT archived.partition_name;
+    END LOOP;
+END $$;
+
+-- One partition per month from the oldest reservation through two years ahead.
+SELECT booking.create_reservation_partition(month::date)
+FROM generate_series(
+        date_trunc('month', LEAST((SELECT min(checkin_date) FROM booking.reservation_unpartitioned), CURRENT_DATE)),
+        date_trunc('month', CURRENT_DATE) + interval '24 months',
+        interval '1 month') AS month;
+
+-- ================================================
+-- Copy, then index
+-- ================================================
+
+INSERT INTO booking.reservation (id, first_name, last_name, user_id, room_number, room_id, checkin_date,
+                                 checkout_date, status, version, created_date, update_date)
+SELECT id, first_name, last_name, user_id, room_number, room_id, checkin_date,
+       checkout_date, status, version, created_date, update_date
+FROM booking.reservation_unpartitioned;
+
+INSERT INTO booking.reservation_guard (reservation_id, room_id, checkin_date, checkout_date, status)
+SELECT id, room_id, checkin_date, checkout_date, status
+FROM booking.reservation_unpartitioned;
+
+DROP TABLE booking.reservation_unpartitioned;
+
+ALTER TABLE booking.reservation_guard
+    ADD CONSTRAINT reservation_no_overlap
+    EXCLUDE USING GIST (
+        room_id WITH =,
+        period WITH &&
+    )
+    WHERE (status IS DISTINCT FROM 'CANCELLED');
+
+CREATE INDEX IF NOT EXISTS idx_reservation_guard_checkin ON booking.reservation_guard (checkin_date);
+
+ALTER TABLE booking.reservation ADD CONSTRAINT reservation_pkey PRIMARY KEY (id, checkin_date);
+
+ALTER TABLE booking.reservation
+    ADD CONSTRAINT fk_reservation_user
+        FOREIGN KEY (user_id)
+            REFERENCES booking.users(id)
+            ON DELETE CASCADE;
+
+ALTER TABLE booking.reservation
+    ADD CONSTRAINT fk_reservation_room
+        FOREIGN KEY (room_id)
+            REFERENCES booking.rooms(id)
+            ON DELETE CASCADE;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_roomid ON booking.reservation (room_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_dates ON booking.reservation (checkin_date, checkout_date);
+CREATE INDEX IF NOT EXISTS idx_reservation_status ON booking.reservation (status);
+CREATE INDEX IF NOT EXISTS idx_reservation_created_id ON booking.reservation (created_date, id);
+CREATE INDEX IF NOT EXISTS idx_reservation_user_created_id ON booking.reservation (user_id, created_date, id);
+
+-- ================================================
+-- Keep the guard in step with every write
+-- ================================================
+
+-- An update that changes checkin_date into another month moves the row between partitions; Postgres runs it
+-- as a delete and an insert, so only those two branches fire for it.
+CREATE FUNCTION booking.sync_reservation_guard() RETURNS TRIGGER
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO booking.reservation_guard (reservation_id, room_id, checkin_date, checkout_date, status)
+        VALUES (NEW.id, NEW.room_id, NEW.checkin_date, NEW.checkout_date, NEW.status);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE booking.reservation_guard
+        SET room_id = NEW.room_id,
+            checkin_date = NEW.checkin_date,
+            checkout_date = NEW.checkout_date,
+            status = NEW.status
+        WHERE reservation_id = OLD.id;
+    ELSE
+        DELETE FROM booking.reservation_guard WHERE reservation_id = OLD.id;
+    END IF;
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER sync_reservation_guard
+    AFTER INSERT OR UPDATE OR DELETE ON booking.reservation
+    FOR EACH ROW EXECUTE FUNCTION booking.sync_reservation_guard();
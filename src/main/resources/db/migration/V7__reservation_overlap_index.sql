@@ -0,0 +1,17 @@
+-- ================================================
+-- Answer the overlap check from the guard's exclusion index instead of low-selectivity btrees
+-- ================================================
+-- status has two values, so idx_reservation_status never narrows a search, and the (checkin_date, checkout_date)
+-- btree can only range-scan on checkin_date. Both still cost an index insert per reservation. The
+-- reservation_no_overlap constraint on booking.reservation_guard is already a GiST index on (room_id, period) over
+-- active stays, so the overlap check and the availability search probe that instead of a second copy here.
+-- idx_reservation_roomid stays: ON DELETE CASCADE from rooms finds a room's reservations, cancelled ones included,
+-- through it, rather than scanning every partition.
+
+-- With status never null, `<> 'CANCELLED'` means the same as `IS DISTINCT FROM 'CANCELLED'`.
+UPDATE booking.reservation SET status = 'ACTIVE' WHERE status IS NULL;
+ALTER TABLE booking.reservation ALTER COLUMN status SET NOT NULL;
+ALTER TABLE booking.reservation_guard ALTER COLUMN status SET NOT NULL;
+
+DROP INDEX IF EXISTS booking.idx_reservation_status;
+DROP INDEX IF EXISTS booking.idx_reservation_dates;
@@ -0,0 +1,14 @@
+-- ================================================
+-- Hand out outbox ids in blocks so a batch's outbox rows are inserted as one JDBC batch
+-- ================================================
+-- With BIGSERIAL ids mapped as IDENTITY, Hibernate inserts each outbox row on its own to read the id back, one round
+-- trip per reservation in a batch booking. The column's sequence now steps by 50 and the application reserves a
+-- block per nextval (pooled optimizer, allocationSize = 50), so ids are known before the flush. The column default
+-- stays on the same sequence, so rows inserted by hand keep getting unused ids.
+ALTER SEQUENCE booking.reservation_outbox_id_seq INCREMENT BY 50;
+
+-- Each instance now draws ids from its own block, so id order no longer follows insert order across instances.
+-- The relay numbers unsequenced rows by creation time first; id only orders rows created together, such as a batch.
+DROP INDEX IF EXISTS booking.idx_reservation_outbox_unsequenced;
+CREATE INDEX IF NOT EXISTS idx_reservation_outbox_unsequenced ON booking.reservation_outbox (created_at, id)
+    WHERE sequence_number IS NULL;
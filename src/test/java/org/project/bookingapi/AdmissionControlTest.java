@@ -0,0 +1,155 @@
+package org.project.bookingapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.admission.AdaptiveConcurrencyLimiter;
+import org.project.bookingapi.admission.AdmissionControlAspect;
+import org.project.bookingapi.admission.ConcurrencyLimited;
+import org.project.bookingapi.config.AdmissionControlConfig;
+import org.project.bookingapi.enums.LimitBudget;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.project.bookingapi.exception.ValidationException;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdmissionControlTest {
+
+    static class Bookings {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @ConcurrencyLimited(LimitBudget.WRITE)
+        public String book() throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "booked";
+        }
+
+        @ConcurrencyLimited(LimitBudget.READ)
+        public String search() {
+            return "rooms";
+        }
+
+        @ConcurrencyLimited(LimitBudget.WRITE)
+        public String invalid() {
+            throw new ValidationException(HttpStatus.BAD_REQUEST, Map.of("checkout", "Checkout date must be after checkin date"));
+        }
+    }
+
+    // Runs rounds at full concurrency, each call taking rttMillis.
+    private static void load(AdaptiveConcurrencyLimiter limiter, int rounds, long rttMillis) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+            }
+        }
+    }
+
+    @Test
+    void limiter_rejects_once_limit_is_in_use() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.onIgnored();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limiter_shrinks_when_latency_rises_and_recovers_when_it_falls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+
+        load(limiter, 20, 5);
+        int steady = limiter.getLimit();
+        load(limiter, 20, 50);
+        int congested = limiter.getLimit();
+        load(limiter, 40, 5);
+
+        assertThat(steady).isGreaterThan(20);
+        assertThat(congested).isLessThan(steady);
+        assertThat(limiter.getLimit()).isGreaterThan(congested);
+    }
+
+    @Test
+    void limiter_backs_off_on_drops_but_not_below_minimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 200);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void aspect_sheds_writes_beyond_limit_with_separate_read_budget() throws Exception {
+        AdmissionControlConfig config = new AdmissionControlConfig();
+        config.setWrite(new AdmissionControlConfig.Budget(1, 1, 1));
+        config.setRetryAfter(Duration.ofSeconds(2));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdmissionControlAspect aspect = new AdmissionControlAspect(config, meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(DataSource.class));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Bookings());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        Bookings bookings = factory.getProxy();
+        Bookings target = (Bookings) factory.getTargetSource().getTarget();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bookings.book();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        target.entered.await(5, TimeUnit.SECONDS);
+
+        LoadSheddingException shed = assertThrows(LoadSheddingException.class, bookings::book);
+        assertThat(shed.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(bookings.search()).isEqualTo("rooms");
+
+        target.release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("booked");
+        assertThat(meterRegistry.get("booking.admission.rejected").tag("budget", "write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void aspect_releases_permit_without_sampling_on_validation_failure() {
+        AdmissionControlConfig config = new AdmissionControlConfig();
+        config.setWrite(new AdmissionControlConfig.Budget(2, 1, 10));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdmissionControlAspect aspect = new AdmissionControlAspect(config, meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(DataSource.class));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Bookings());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        Bookings bookings = factory.getProxy();
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(ValidationException.class, bookings::invalid);
+        }
+
+        assertThat(meterRegistry.get("booking.admission.limit").tag("budget", "write").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("booking.admission.inflight").tag("budget", "write").gauge().value()).isZero();
+    }
+}
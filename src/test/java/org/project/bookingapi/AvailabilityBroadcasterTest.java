@@ -0,0 +1,138 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.AvailabilityStreamConfig;
+import org.project.bookingapi.controller.AvailabilityStreamController;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.project.bookingapi.service.AvailabilityBroadcaster;
+import org.project.bookingapi.service.AvailabilityIndex;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityBroadcasterTest {
+
+    @Mock
+    AvailabilityIndex availabilityIndex;
+    @Mock
+    RoomsRepository roomsRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    AvailabilityBroadcaster broadcaster;
+    MockMvc mockMvc;
+
+    final LocalDate checkin = LocalDate.of(2030, 5, 1);
+    final LocalDate checkout = LocalDate.of(2030, 5, 4);
+    final RoomsDto room1 = new RoomsDto(UUID.randomUUID(), RoomType.SINGLE, 101L);
+    final RoomsDto room2 = new RoomsDto(UUID.randomUUID(), RoomType.DOUBLE, 102L);
+
+    @BeforeEach
+    void setup() {
+        broadcaster = new AvailabilityBroadcaster(availabilityIndex, roomsRepository, transactionTemplate, new AvailabilityStreamConfig());
+        lenient().when(transactionTemplate.execute(ArgumentMatchers.<TransactionCallback<List<RoomsDto>>>any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<List<RoomsDto>>>getArgument(0).doInTransaction(null));
+        mockMvc = MockMvcBuilders.standaloneSetup(new AvailabilityStreamController(broadcaster)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    private MockHttpServletResponse open() throws Exception {
+        return mockMvc.perform(get("/api/v1/reservations/available-rooms/stream")
+                        .param("checkin", checkin.toString())
+                        .param("checkout", checkout.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!response.getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+
+    @Test
+    void sendsSnapshotThenOnlyTheRoomsThatChanged() throws Exception {
+        given(availabilityIndex.findAvailableRooms(checkin, checkout))
+                .willReturn(Optional.of(List.of(room1, room2)), Optional.of(List.of(room2)));
+
+        var response = open();
+        assertThat(awaitContent(response, room2.id().toString())).contains(room1.id().toString(), room2.id().toString());
+
+        broadcaster.onReservationChanged(new ReservationChangedEvent(UUID.randomUUID(), room1.id(), null, null,
+                checkin.plusDays(1), checkin.plusDays(2), BookingStatusType.ACTIVE));
+
+        var content = awaitContent(response, "\"available\":false");
+        var delta = content.substring(content.indexOf("event:delta"));
+        assertThat(delta).contains(room1.id().toString(), "\"available\":false").doesNotContain(room2.id().toString());
+    }
+
+    @Test
+    void connectionsForTheSameStay_shareOneLoad_andIgnoreOtherDates() throws Exception {
+        given(availabilityIndex.findAvailableRooms(checkin, checkout)).willReturn(Optional.of(List.of(room1)));
+
+        var first = open();
+        var second = open();
+        awaitContent(first, "event:snapshot");
+        awaitContent(second, "event:snapshot");
+
+        broadcaster.onReservationChanged(new ReservationChangedEvent(UUID.randomUUID(), room1.id(), null, null,
+                checkout, checkout.plusDays(2), BookingStatusType.ACTIVE));
+        broadcaster.resync();
+
+        Thread.sleep(100);
+        then(availabilityIndex).should(times(2)).findAvailableRooms(checkin, checkout);
+        assertThat(first.getContentAsString()).doesNotContain("event:delta");
+    }
+
+    @Test
+    void fallsBackToThePrimaryOutsideTheIndexHorizon() throws Exception {
+        given(availabilityIndex.findAvailableRooms(any(), any())).willReturn(Optional.empty());
+        given(roomsRepository.findAvailableRooms(checkin, checkout)).willReturn(List.of());
+
+        assertThat(awaitContent(open(), "data:[]")).contains("event:snapshot");
+        then(transactionTemplate).should().execute(ArgumentMatchers.<TransactionCallback<List<RoomsDto>>>any());
+    }
+
+    @Test
+    void rejectsEmptyStay() throws Exception {
+        mockMvc.perform(get("/api/v1/reservations/available-rooms/stream")
+                        .param("checkin", checkin.toString())
+                        .param("checkout", checkin.toString()))
+                .andExpect(status().isBadRequest());
+    }
+}
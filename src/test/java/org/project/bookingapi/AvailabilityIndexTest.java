@@ -0,0 +1,186 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.AvailabilityIndexConfig;
+import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.event.RoomsChangedEvent;
+import org.project.bookingapi.model.ReservationPeriod;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.project.bookingapi.service.AvailabilityIndex;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    @Mock
+    RoomsRepository roomsRepository;
+    @Mock
+    BookingRepository bookingRepository;
+
+    AvailabilityIndex index;
+
+    final UUID room1Id = UUID.randomUUID();
+    final UUID room2Id = UUID.randomUUID();
+    final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setup() {
+        AvailabilityIndexConfig config = new AvailabilityIndexConfig();
+        config.setHorizonDays(200);
+        index = new AvailabilityIndex(roomsRepository, bookingRepository, config);
+    }
+
+    private void givenReservations(ReservationPeriod... periods) {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(
+                Rooms.builder().id(room1Id).roomNumber(101L).type(RoomType.SINGLE).build(),
+                Rooms.builder().id(room2Id).roomNumber(102L).type(RoomType.DOUBLE).build()));
+        given(bookingRepository.findActivePeriods(any(), any())).willReturn(List.of(periods));
+    }
+
+    private List<UUID> availableIds(LocalDate checkin, LocalDate checkout) {
+        return index.findAvailableRooms(checkin, checkout).orElseThrow().stream().map(RoomsDto::id).toList();
+    }
+
+    @Test
+    void not_ready_until_built() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.findAvailableRooms(today, today.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void rebuild_marks_booked_nights_across_word_boundaries() {
+        givenReservations(new ReservationPeriod(UUID.randomUUID(), room1Id, today.plusDays(60), today.plusDays(70)));
+
+        index.rebuild();
+
+        assertThat(availableIds(today.plusDays(50), today.plusDays(60))).containsExactly(room1Id, room2Id);
+        assertThat(availableIds(today.plusDays(69), today.plusDays(71))).containsExactly(room2Id);
+        assertThat(availableIds(today.plusDays(70), today.plusDays(140))).containsExactly(room1Id, room2Id);
+        assertThat(availableIds(today, today.plusDays(200))).containsExactly(room2Id);
+    }
+
+    @Test
+    void searches_outside_horizon_fall_back() {
+        givenReservations();
+
+        index.rebuild();
+
+        assertThat(index.findAvailableRooms(today.minusDays(1), today.plusDays(1))).isEmpty();
+        assertThat(index.findAvailableRooms(today.plusDays(190), today.plusDays(201))).isEmpty();
+        assertThat(index.findAvailableRooms(today.plusDays(3), today.plusDays(3))).isEmpty();
+    }
+
+    @Test
+    void applies_created_updated_and_cancelled_events() {
+        givenReservations();
+        index.rebuild();
+        UUID reservationId = UUID.randomUUID();
+
+        index.onReservationChanged(new ReservationChangedEvent(reservationId, room2Id, null, null,
+                today.plusDays(5), today.plusDays(8), BookingStatusType.ACTIVE));
+        assertThat(availableIds(today.plusDays(6), today.plusDays(7))).containsExactly(room1Id);
+
+        index.onReservationChanged(new ReservationChangedEvent(reservationId, room2Id, today.plusDays(5), today.plusDays(8),
+                today.plusDays(10), today.plusDays(12), BookingStatusType.ACTIVE));
+        assertThat(availableIds(today.plusDays(6), today.plusDays(7))).containsExactly(room1Id, room2Id);
+        assertThat(availableIds(today.plusDays(11), today.plusDays(12))).containsExactly(room1Id);
+
+        index.onReservationChanged(new ReservationChangedEvent(reservationId, room2Id, today.plusDays(10), today.plusDays(12),
+                today.plusDays(10), today.plusDays(12), BookingStatusType.CANCELLED));
+        assertThat(availableIds(today.plusDays(11), today.plusDays(12))).containsExactly(room1Id, room2Id);
+    }
+
+    @Test
+    void deltas_applied_out_of_commit_order_agree() {
+        UUID cancelledId = UUID.randomUUID();
+        givenReservations(new ReservationPeriod(cancelledId, room1Id, today.plusDays(5), today.plusDays(8)));
+        index.rebuild();
+        ReservationChangedEvent cancelled = new ReservationChangedEvent(cancelledId, room1Id, today.plusDays(5), today.plusDays(8),
+                today.plusDays(5), today.plusDays(8), BookingStatusType.CANCELLED);
+        ReservationChangedEvent rebooked = new ReservationChangedEvent(UUID.randomUUID(), room1Id, null, null,
+                today.plusDays(5), today.plusDays(8), BookingStatusType.ACTIVE);
+
+        index.onReservationChanged(rebooked);
+        index.onReservationChanged(cancelled);
+
+        assertThat(availableIds(today.plusDays(6), today.plusDays(7))).containsExactly(room2Id);
+        assertThat(index.verify()).isZero();
+    }
+
+    @Test
+    void rebuild_does_not_replay_deltas_the_load_already_read() {
+        UUID reservationId = UUID.randomUUID();
+        ReservationChangedEvent created = new ReservationChangedEvent(reservationId, room1Id, null, null,
+                today.plusDays(5), today.plusDays(8), BookingStatusType.ACTIVE);
+        givenReservations();
+        given(bookingRepository.findActivePeriods(any(), any())).willAnswer(invocation -> {
+            index.onReservationChanged(created);
+            return List.of(new ReservationPeriod(reservationId, room1Id, today.plusDays(5), today.plusDays(8)));
+        });
+        index.rebuild();
+
+        index.onReservationChanged(new ReservationChangedEvent(reservationId, room1Id, today.plusDays(5), today.plusDays(8),
+                today.plusDays(5), today.plusDays(8), BookingStatusType.CANCELLED));
+
+        assertThat(availableIds(today.plusDays(6), today.plusDays(7))).containsExactly(room1Id, room2Id);
+    }
+
+    @Test
+    void verify_detects_drift_and_rebuilds() {
+        givenReservations();
+        index.rebuild();
+        assertThat(index.verify()).isZero();
+
+        givenReservations(new ReservationPeriod(UUID.randomUUID(), room1Id, today.plusDays(1), today.plusDays(2)));
+
+        assertThat(index.verify()).isEqualTo(1);
+        assertThat(availableIds(today.plusDays(1), today.plusDays(2))).containsExactly(room2Id);
+    }
+
+    @Test
+    void room_changes_reload_the_room_set() {
+        Rooms room1 = Rooms.builder().id(room1Id).roomNumber(101L).type(RoomType.SINGLE).build();
+        Rooms retyped = Rooms.builder().id(room1Id).roomNumber(101L).type(RoomType.SUITE).build();
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(
+                List.of(room1, Rooms.builder().id(room2Id).roomNumber(102L).type(RoomType.DOUBLE).build()),
+                List.of(retyped));
+        given(bookingRepository.findActivePeriods(any(), any())).willReturn(List.of());
+        index.rebuild();
+
+        index.onRoomsChanged(new RoomsChangedEvent(room2Id));
+
+        assertThat(index.findAvailableRooms(today, today.plusDays(1))).hasValueSatisfying(rooms ->
+                assertThat(rooms).extracting(RoomsDto::id, RoomsDto::type).containsExactly(tuple(room1Id, RoomType.SUITE)));
+    }
+
+    @Test
+    void verify_detects_a_retyped_room() {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(
+                List.of(Rooms.builder().id(room1Id).roomNumber(101L).type(RoomType.SINGLE).build()),
+                List.of(Rooms.builder().id(room1Id).roomNumber(101L).type(RoomType.SUITE).build()));
+        given(bookingRepository.findActivePeriods(any(), any())).willReturn(List.of());
+        index.rebuild();
+
+        assertThat(index.verify()).isPositive();
+        assertThat(index.findAvailableRooms(today, today.plusDays(1)).orElseThrow())
+                .extracting(RoomsDto::type).containsExactly(RoomType.SUITE);
+    }
+}
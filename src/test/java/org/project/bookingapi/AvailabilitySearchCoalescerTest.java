@@ -0,0 +1,148 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.config.AvailabilitySearchConfig;
+import org.project.bookingapi.config.ReadReplicaConfig;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.service.AvailabilitySearchCoalescer;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class AvailabilitySearchCoalescerTest {
+
+    final LocalDate checkin = LocalDate.of(2030, 3, 10);
+    final LocalDate checkout = LocalDate.of(2030, 3, 14);
+    final List<RoomsDto> rooms = List.of(RoomsDto.builder().id(UUID.randomUUID()).roomNumber(101L).type(RoomType.SINGLE).build());
+    final AtomicInteger searches = new AtomicInteger();
+
+    private AvailabilitySearchCoalescer coalescer(Duration cacheTtl) {
+        AvailabilitySearchConfig config = new AvailabilitySearchConfig();
+        config.setCacheTtl(cacheTtl);
+        return new AvailabilitySearchCoalescer(config, null, Optional.empty());
+    }
+
+    private List<RoomsDto> count() {
+        searches.incrementAndGet();
+        return rooms;
+    }
+
+    private ReservationChangedEvent booked(LocalDate from, LocalDate to) {
+        return new ReservationChangedEvent(UUID.randomUUID(), UUID.randomUUID(), null, null, from, to, BookingStatusType.ACTIVE);
+    }
+
+    @Test
+    void concurrent_identical_searches_share_one_computation() throws Exception {
+        AvailabilitySearchCoalescer coalescer = coalescer(Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<RoomsDto>> leader = CompletableFuture.supplyAsync(() -> coalescer.search(checkin, checkout, () -> {
+            started.countDown();
+            await(release);
+            return count();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<List<RoomsDto>> follower = CompletableFuture.supplyAsync(() -> coalescer.search(checkin, checkout, this::count));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(rooms);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(rooms);
+        assertThat(searches).hasValue(1);
+
+        coalescer.search(checkin, checkout, this::count);
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void failure_is_shared_and_not_cached() {
+        AvailabilitySearchCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> coalescer.search(checkin, checkout, () -> {
+            throw new IllegalStateException("down");
+        }));
+
+        assertThat(coalescer.search(checkin, checkout, this::count)).isEqualTo(rooms);
+        assertThat(searches).hasValue(1);
+    }
+
+    @Test
+    void cached_result_is_reused_until_an_overlapping_write() {
+        AvailabilitySearchCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+
+        coalescer.search(checkin, checkout, this::count);
+        coalescer.search(checkin, checkout, this::count);
+        assertThat(searches).hasValue(1);
+
+        coalescer.onReservationChanged(booked(checkout, checkout.plusDays(2)));
+        coalescer.search(checkin, checkout, this::count);
+        assertThat(searches).hasValue(1);
+
+        coalescer.onReservationChanged(booked(checkout.minusDays(1), checkout.plusDays(2)));
+        coalescer.search(checkin, checkout, this::count);
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void search_running_during_a_write_is_not_cached() {
+        AvailabilitySearchCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+
+        coalescer.search(checkin, checkout, () -> {
+            coalescer.onReservationChanged(booked(checkin, checkin.plusDays(1)));
+            return count();
+        });
+        coalescer.search(checkin, checkout, this::count);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void search_overlapping_a_change_within_replica_lag_runs_on_the_primary() {
+        AvailabilitySearchConfig config = new AvailabilitySearchConfig();
+        config.setCacheTtl(Duration.ofMinutes(1));
+        ReadReplicaConfig readReplicas = new ReadReplicaConfig();
+        readReplicas.setMaxLag(Duration.ofMinutes(1));
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        AvailabilitySearchCoalescer coalescer = new AvailabilitySearchCoalescer(config, transactionTemplate, Optional.of(readReplicas));
+
+        coalescer.search(checkout, checkout.plusDays(2), this::count);
+        then(transactionTemplate).should(never()).execute(any());
+
+        coalescer.onReservationChanged(booked(checkin, checkin.plusDays(1)));
+        assertThat(coalescer.search(checkin, checkout, this::count)).isEqualTo(rooms);
+        then(transactionTemplate).should().execute(any());
+        coalescer.search(checkout, checkout.plusDays(3), this::count);
+        then(transactionTemplate).should().execute(any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
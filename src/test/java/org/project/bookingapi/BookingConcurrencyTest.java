@@ -0,0 +1,135 @@
+package org.project.bookingapi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.exception.BookingConflictException;
+import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.project.bookingapi.service.BookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class BookingConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    static final UUID ROOM_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    static final UUID USER_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    static final int BOOKINGS = 16;
+    // Stands in for the rest of the work a booking transaction does after the insert.
+    static final long WORK_MILLIS = 100;
+
+    @Autowired
+    BookingService bookingService;
+    @Autowired
+    RoomsRepository roomsRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private ReservationRequest request(LocalDate checkin, LocalDate checkout) {
+        return ReservationRequest.builder()
+                .roomId(ROOM_ID).userId(USER_ID)
+                .firstname("Load").surname("Test")
+                .roomNum(101)
+                .checkinDate(checkin).checkoutDate(checkout)
+                .build();
+    }
+
+    private Duration bookConcurrently(LocalDate firstNight, boolean lockRoom) throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDate checkin = firstNight.plusDays(i * 2L);
+            tasks.add(() -> transactionTemplate.execute(status -> {
+                if (lockRoom) {
+                    roomsRepository.findByIdForUpdate(ROOM_ID).orElseThrow();
+                }
+                bookingService.createReservation(request(checkin, checkin.plusDays(1)));
+                sleep();
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        runAll(tasks);
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void runAll(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(WORK_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void nonOverlappingBookings_onSameRoom_runInParallel() throws Exception {
+        Duration locked = bookConcurrently(LocalDate.of(2031, 1, 1), true);
+        Duration optimistic = bookConcurrently(LocalDate.of(2032, 1, 1), false);
+
+        log.info("{} non-overlapping bookings on one room: room lock {} ms, constraint only {} ms",
+                BOOKINGS, locked.toMillis(), optimistic.toMillis());
+
+        assertThat(locked).isGreaterThanOrEqualTo(Duration.ofMillis(BOOKINGS * WORK_MILLIS));
+        assertThat(optimistic.multipliedBy(2)).isLessThan(locked);
+    }
+
+    @Test
+    void overlappingBookings_onSameRoom_onlyOneWins() throws Exception {
+        LocalDate checkin = LocalDate.of(2033, 6, 1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            tasks.add(() -> {
+                try {
+                    bookingService.createReservation(request(checkin, checkin.plusDays(3)));
+                    booked.incrementAndGet();
+                } catch (RoomAlreadyBookedException | BookingConflictException ex) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        runAll(tasks);
+
+        assertThat(booked).hasValue(1);
+        assertThat(rejected).hasValue(BOOKINGS - 1);
+    }
+}
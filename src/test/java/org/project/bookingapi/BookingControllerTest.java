@@ -9,12 +9,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.bookingapi.controller.BookingController;
+import org.project.bookingapi.enums.BatchItemStatus;
+import org.project.bookingapi.enums.BatchMode;
 import org.project.bookingapi.enums.BookingStatusType;
 import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.model.IdempotentResponse;
 import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.model.request.BatchReservationRequest;
 import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.BatchReservationItem;
+import org.project.bookingapi.model.response.BatchReservationResponse;
+import org.project.bookingapi.model.response.ReservationPageResponse;
 import org.project.bookingapi.model.response.ReservationResponse;
 import org.project.bookingapi.service.BookingService;
+import org.project.bookingapi.service.IdempotencyService;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,8 +37,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +49,8 @@ class BookingControllerTest {
 
     @Mock
     BookingService bookingService;
+    @Mock
+    IdempotencyService idempotencyService;
 
     BookingController controller;
 
@@ -49,7 +61,7 @@ class BookingControllerTest {
     @BeforeEach
     void setup() {
 
-        controller = new BookingController(bookingService);
+        controller = new BookingController(bookingService, idempotencyService);
         objectMapper.registerModule(new JavaTimeModule());
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
@@ -88,6 +100,50 @@ class BookingControllerTest {
         then(bookingService).should().createReservation(any());
     }
 
+    @Test
+    void createReservation_withIdempotencyKey_returnsReplayHeader() throws Exception {
+        ReservationResponse resp = ReservationResponse.builder()
+                .id(UUID.randomUUID()).userId(UUID.randomUUID()).roomId(UUID.randomUUID())
+                .firstname("John").surname("Doe").roomNumber(101L)
+                .checkinDate(LocalDate.of(2025, 1, 1)).checkoutDate(LocalDate.of(2025, 1, 2))
+                .status(BookingStatusType.ACTIVE).build();
+
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(resp.roomId()).userId(resp.userId())
+                .firstname("John").surname("Doe")
+                .roomNum(101).checkinDate(resp.checkinDate()).checkoutDate(resp.checkoutDate())
+                .build();
+
+        given(idempotencyService.createReservation(eq("retry-1"), any())).willReturn(new IdempotentResponse(resp, true));
+
+        mockMvc.perform(post("/api/v1/reservations")
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(resp.id().toString()));
+
+        then(bookingService).should(never()).createReservation(any());
+    }
+
+    @Test
+    void createReservation_idempotencyKeyTooLong_returns400() throws Exception {
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(UUID.randomUUID()).userId(UUID.randomUUID())
+                .roomNum(101).checkinDate(LocalDate.of(2025, 1, 1)).checkoutDate(LocalDate.of(2025, 1, 2))
+                .build();
+
+        mockMvc.perform(post("/api/v1/reservations")
+                        .header("Idempotency-Key", "k".repeat(101))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest());
+
+        then(idempotencyService).shouldHaveNoInteractions();
+        then(bookingService).shouldHaveNoInteractions();
+    }
+
     @Test
     void getById_returns200_andBody() throws Exception {
         UUID id = UUID.randomUUID();
@@ -105,6 +161,25 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.firstname").value("A"));
     }
 
+    @Test
+    void scrollReservations_returnsItemsAndNextCursor() throws Exception {
+        ReservationResponse r1 = ReservationResponse.builder()
+                .id(UUID.randomUUID()).userId(UUID.randomUUID()).roomId(UUID.randomUUID())
+                .firstname("X").surname("Y").roomNumber(1L).checkinDate(LocalDate.now()).checkoutDate(LocalDate.now().plusDays(1))
+                .status(BookingStatusType.ACTIVE)
+                .build();
+
+        given(bookingService.scrollReservations("abc", 1))
+                .willReturn(ReservationPageResponse.builder().items(List.of(r1)).nextCursor("def").build());
+
+        mockMvc.perform(get("/api/v1/reservations/scroll")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].firstname").value("X"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
     @Test
     void getReservations_returns_flux() throws Exception {
         ReservationResponse r1 = ReservationResponse.builder()
@@ -134,6 +209,36 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].roomNumber").value(5));
     }
 
+    @Test
+    void getRoomByNumber_returnsRoom() throws Exception {
+        RoomsDto dto = RoomsDto.builder().id(UUID.randomUUID()).roomNumber(101L).type(RoomType.SINGLE).build();
+        given(bookingService.getRoomByNumber(101L)).willReturn(dto);
+
+        mockMvc.perform(get("/api/v1/reservations/rooms/{roomNumber}", 101))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(dto.id().toString()));
+    }
+
+    @Test
+    void getAvailableRooms_reversedDates_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/reservations/available-rooms")
+                        .param("checkin", "2025-01-03")
+                        .param("checkout", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+
+        then(bookingService).should(never()).getAvailableRooms(any(), any());
+    }
+
+    @Test
+    void getAvailableRooms_stayLongerThanAllowed_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/reservations/available-rooms")
+                        .param("checkin", "2025-01-01")
+                        .param("checkout", "2026-01-02"))
+                .andExpect(status().isBadRequest());
+
+        then(bookingService).should(never()).getAvailableRooms(any(), any());
+    }
+
     @Test
     void cancelReservation_returnsNoContent() throws Exception {
         UUID id = UUID.randomUUID();
@@ -144,4 +249,56 @@ class BookingControllerTest {
 
         then(bookingService).should().cancelReservation(id);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createReservations_partialSuccess_returnsMultiStatus() throws Exception {
+        ReservationRequest item = ReservationRequest.builder()
+                .roomId(UUID.randomUUID()).userId(UUID.randomUUID())
+                .roomNum(1).checkinDate(LocalDate.of(2025, 1, 1)).checkoutDate(LocalDate.of(2025, 1, 2))
+                .build();
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.BEST_EFFORT)
+                .reservations(List.of(item, item))
+                .build();
+        BatchReservationResponse resp = BatchReservationResponse.builder()
+                .mode(BatchMode.BEST_EFFORT).created(1).failed(1)
+                .items(List.of(
+                        BatchReservationItem.builder().index(0).status(BatchItemStatus.CREATED).build(),
+                        BatchReservationItem.builder().index(1).status(BatchItemStatus.CONFLICT).message("overlap").build()))
+                .build();
+
+        given(bookingService.createReservations(any())).willReturn(resp);
+
+        mockMvc.perform(post("/api/v1/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"));
+    }
+
+    @Test
+    void createReservations_allInvalid_returnsUnprocessableEntity() throws Exception {
+        ReservationRequest item = ReservationRequest.builder()
+                .roomId(UUID.randomUUID()).userId(UUID.randomUUID())
+                .roomNum(1).checkinDate(LocalDate.of(2025, 1, 2)).checkoutDate(LocalDate.of(2025, 1, 1))
+                .build();
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.ALL_OR_NOTHING)
+                .reservations(List.of(item, item))
+                .build();
+        BatchReservationResponse resp = BatchReservationResponse.builder()
+                .mode(BatchMode.ALL_OR_NOTHING).created(0).failed(2)
+                .items(List.of(
+                        BatchReservationItem.builder().index(0).status(BatchItemStatus.INVALID).message("reversed").build(),
+                        BatchReservationItem.builder().index(1).status(BatchItemStatus.INVALID).message("reversed").build()))
+                .build();
+
+        given(bookingService.createReservations(any())).willReturn(resp);
+
+        mockMvc.perform(post("/api/v1/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.items[0].status").value("INVALID"));
+    }
+}
@@ -1,36 +1,66 @@
 package org.project.bookingapi;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.project.bookingapi.config.AvailabilitySearchConfig;
+import org.project.bookingapi.config.BookingWriteConfig;
 import org.project.bookingapi.entity.Reservation;
 import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.enums.BatchItemStatus;
+import org.project.bookingapi.enums.BatchMode;
 import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ConflictCheck;
 import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.ReservationChangedEvent;
 import org.project.bookingapi.exception.BookingConflictException;
 import org.project.bookingapi.exception.ResourceNotFoundException;
+import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.project.bookingapi.exception.ValidationException;
+import org.project.bookingapi.mapper.RoomsMapper;
+import org.project.bookingapi.metrics.BookingMetrics;
+import org.project.bookingapi.metrics.BookingMetrics.ConflictCause;
+import org.project.bookingapi.model.ReservationPeriod;
 import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.model.request.BatchReservationRequest;
 import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.BatchReservationItem;
+import org.project.bookingapi.model.response.BatchReservationResponse;
+import org.project.bookingapi.model.response.ReservationPageResponse;
 import org.project.bookingapi.model.response.ReservationResponse;
 import org.project.bookingapi.repository.BookingRepository;
 import org.project.bookingapi.repository.RoomsRepository;
+import org.project.bookingapi.service.AvailabilityIndex;
+import org.project.bookingapi.service.AvailabilitySearchCoalescer;
 import org.project.bookingapi.service.BookingService;
-import org.springframework.data.domain.PageImpl;
+import org.project.bookingapi.service.RoomCatalog;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
@@ -40,10 +70,30 @@ class BookingServiceTest {
     BookingRepository bookingRepository;
     @Mock
     RoomsRepository roomsRepository;
+    @Mock
+    RoomCatalog roomCatalog;
+    @Mock
+    AvailabilityIndex availabilityIndex;
+    @Spy
+    AvailabilitySearchCoalescer availabilitySearchCoalescer = new AvailabilitySearchCoalescer(new AvailabilitySearchConfig(), null, Optional.empty());
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    BookingMetrics bookingMetrics;
+    @Spy
+    BookingWriteConfig bookingWriteConfig = new BookingWriteConfig();
+    @Mock
+    TransactionTemplate transactionTemplate;
 
     @InjectMocks
     BookingService bookingService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     private Reservation buildReservation(UUID id, UUID roomId, UUID userId, LocalDate ci, LocalDate co) {
         Reservation r = new Reservation();
         r.setId(id);
@@ -84,11 +134,9 @@ class BookingServiceTest {
                 .build();
 
         Rooms room = buildRoom(roomId, 101L, RoomType.SINGLE);
-        given(roomsRepository.findById(eq(roomId))).willReturn(Optional.of(room));
-        given(bookingRepository.findOverlappingReservations(eq(roomId), any(), any()))
-                .willReturn(Collections.emptyList());
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.of(RoomsMapper.INSTANCE.map(room)));
 
-        given(bookingRepository.save(any(Reservation.class))).willAnswer(invocation -> {
+        given(bookingRepository.saveAndFlush(any(Reservation.class))).willAnswer(invocation -> {
             Reservation r = invocation.getArgument(0);
             r.setId(UUID.randomUUID());
             return r;
@@ -101,8 +149,10 @@ class BookingServiceTest {
         assertThat(resp.surname()).isEqualTo("Doe");
         assertThat(resp.roomId()).isEqualTo(roomId);
 
-        then(roomsRepository).should().findById(roomId);
-        then(bookingRepository).should().save(any(Reservation.class));
+        then(roomCatalog).should().findById(roomId);
+        then(bookingRepository).should(never()).findOverlappingReservations(any(), any(), any());
+        then(bookingRepository).should().saveAndFlush(any(Reservation.class));
+        then(eventPublisher).should().publishEvent(any(ReservationChangedEvent.class));
     }
 
     @Test
@@ -116,15 +166,35 @@ class BookingServiceTest {
                 .checkinDate(LocalDate.now()).checkoutDate(LocalDate.now().plusDays(1))
                 .build();
 
-        given(roomsRepository.findById(eq(roomId))).willReturn(Optional.empty());
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> bookingService.createReservation(req));
 
-        then(roomsRepository).should().findById(roomId);
+        then(roomCatalog).should().findById(roomId);
+    }
+
+    @Test
+    void createReservation_stayLongerThanMax_throwsValidation() {
+        UUID roomId = UUID.randomUUID();
+        LocalDate checkin = LocalDate.of(2030, 1, 1);
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(roomId)
+                .userId(UUID.randomUUID())
+                .firstname("a").surname("b")
+                .roomNum(1)
+                .checkinDate(checkin).checkoutDate(checkin.plusDays(Reservation.MAX_STAY_NIGHTS + 1))
+                .build();
+
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.of(RoomsMapper.INSTANCE.map(buildRoom(roomId, 1L, RoomType.SINGLE))));
+
+        assertThrows(ValidationException.class, () -> bookingService.createReservation(req));
+
+        then(bookingRepository).should(never()).saveAndFlush(any());
     }
 
     @Test
-    void createReservation_overlapping_throwsBookingConflict() {
+    void createReservation_preCheck_overlapping_throwsBookingConflict() {
+        bookingWriteConfig.setConflictCheck(ConflictCheck.PRE_CHECK);
         UUID roomId = UUID.randomUUID();
         ReservationRequest req = ReservationRequest.builder()
                 .roomId(roomId)
@@ -137,16 +207,216 @@ class BookingServiceTest {
         Rooms room = buildRoom(roomId, 1L, RoomType.SINGLE);
         Reservation existing = buildReservation(UUID.randomUUID(), roomId, req.userId(), req.checkinDate(), req.checkoutDate());
 
-        given(roomsRepository.findById(eq(roomId))).willReturn(Optional.of(room));
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.of(RoomsMapper.INSTANCE.map(room)));
         given(bookingRepository.findOverlappingReservations(eq(roomId), any(), any()))
                 .willReturn(List.of(existing));
 
         assertThrows(BookingConflictException.class, () -> bookingService.createReservation(req));
 
-        then(roomsRepository).should().findById(roomId);
+        then(roomCatalog).should().findById(roomId);
         then(bookingRepository).should().findOverlappingReservations(eq(roomId), any(), any());
     }
 
+    @Test
+    void createReservation_exclusionConstraintViolation_throwsRoomAlreadyBooked() {
+        UUID roomId = UUID.randomUUID();
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(roomId)
+                .userId(UUID.randomUUID())
+                .firstname("a").surname("b")
+                .roomNum(1)
+                .checkinDate(LocalDate.now()).checkoutDate(LocalDate.now().plusDays(1))
+                .build();
+
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.of(RoomsMapper.INSTANCE.map(buildRoom(roomId, 1L, RoomType.SINGLE))));
+        PSQLException overlap = new PSQLException(new ServerErrorMessage("SERROR\0C23P01\0Mconflicting key value\0"));
+        willThrow(new DataIntegrityViolationException("overlap", overlap)).given(bookingRepository).saveAndFlush(any());
+
+        assertThrows(RoomAlreadyBookedException.class, () -> bookingService.createReservation(req));
+
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(bookingMetrics).should().conflict(ConflictCause.ROOM_ALREADY_BOOKED);
+    }
+
+    @Test
+    void createReservation_preCheck_skipsInsertWhenFree() {
+        bookingWriteConfig.setConflictCheck(ConflictCheck.PRE_CHECK);
+        UUID roomId = UUID.randomUUID();
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(roomId)
+                .userId(UUID.randomUUID())
+                .firstname("a").surname("b")
+                .roomNum(1)
+                .checkinDate(LocalDate.now()).checkoutDate(LocalDate.now().plusDays(1))
+                .build();
+
+        given(roomCatalog.findById(eq(roomId))).willReturn(Optional.of(RoomsMapper.INSTANCE.map(buildRoom(roomId, 1L, RoomType.SINGLE))));
+        given(bookingRepository.findOverlappingReservations(eq(roomId), any(), any()))
+                .willReturn(Collections.emptyList());
+        given(bookingRepository.saveAndFlush(any(Reservation.class))).willAnswer(invocation -> invocation.<Reservation>getArgument(0));
+
+        bookingService.createReservation(req);
+
+        then(bookingRepository).should().findOverlappingReservations(eq(roomId), any(), any());
+        then(bookingRepository).should().saveAndFlush(any(Reservation.class));
+    }
+
+    @Test
+    void updateReservation_exclusionConstraintViolation_throwsRoomAlreadyBooked() {
+        UUID id = UUID.randomUUID();
+        Reservation existing = buildReservation(id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
+
+        given(bookingRepository.findById(eq(id))).willReturn(Optional.of(existing));
+        PSQLException overlap = new PSQLException(new ServerErrorMessage("SERROR\0C23P01\0Mconflicting key value\0"));
+        willThrow(new DataIntegrityViolationException("overlap", overlap)).given(bookingRepository).saveAndFlush(any());
+
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(existing.getRoomId()).userId(existing.getUserId())
+                .roomNum(1).checkinDate(LocalDate.now().plusDays(2)).checkoutDate(LocalDate.now().plusDays(4))
+                .build();
+
+        assertThrows(RoomAlreadyBookedException.class, () -> bookingService.updateReservation(id, req));
+
+        then(bookingRepository).should(never()).findOverlappingReservations(any(), any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(bookingMetrics).should().conflict(ConflictCause.ROOM_ALREADY_BOOKED);
+    }
+
+    @Test
+    void updateReservation_checkoutNotAfterCheckin_throwsValidation() {
+        UUID id = UUID.randomUUID();
+        Reservation existing = buildReservation(id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
+        given(bookingRepository.findById(eq(id))).willReturn(Optional.of(existing));
+
+        ReservationRequest req = ReservationRequest.builder()
+                .roomId(existing.getRoomId()).userId(existing.getUserId())
+                .roomNum(1).checkinDate(LocalDate.now().plusDays(4)).checkoutDate(LocalDate.now().plusDays(2))
+                .build();
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> bookingService.updateReservation(id, req));
+
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(bookingRepository).should(never()).saveAndFlush(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    private ReservationRequest batchItem(UUID roomId, LocalDate checkin, LocalDate checkout) {
+        return ReservationRequest.builder()
+                .roomId(roomId).userId(UUID.randomUUID())
+                .firstname("a").surname("b")
+                .roomNum(1)
+                .checkinDate(checkin).checkoutDate(checkout)
+                .build();
+    }
+
+    @Test
+    void createReservations_bestEffort_reportsConflictsAndInsertsTheRest() {
+        UUID roomId = UUID.randomUUID();
+        UUID missingRoomId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.BEST_EFFORT)
+                .reservations(List.of(
+                        batchItem(roomId, day, day.plusDays(2)),
+                        batchItem(roomId, day.plusDays(1), day.plusDays(3)),
+                        batchItem(roomId, day.plusDays(5), day.plusDays(6)),
+                        batchItem(missingRoomId, day, day.plusDays(1)),
+                        batchItem(roomId, day.plusDays(8), day.plusDays(9))))
+                .build();
+
+        given(roomCatalog.findAllById(any())).willReturn(Map.of(roomId, RoomsMapper.INSTANCE.map(buildRoom(roomId, 101L, RoomType.SINGLE))));
+        given(bookingRepository.findActivePeriodsForRooms(any(), eq(day), eq(day.plusDays(9))))
+                .willReturn(List.of(new ReservationPeriod(UUID.randomUUID(), roomId, day.plusDays(8), day.plusDays(10))));
+
+        BatchReservationResponse resp = bookingService.createReservations(batch);
+
+        assertThat(resp.created()).isEqualTo(2);
+        assertThat(resp.failed()).isEqualTo(3);
+        assertThat(resp.items()).extracting(BatchReservationItem::status).containsExactly(
+                BatchItemStatus.CREATED, BatchItemStatus.CONFLICT, BatchItemStatus.CREATED,
+                BatchItemStatus.NOT_FOUND, BatchItemStatus.CONFLICT);
+        assertThat(resp.items().get(0).reservation().roomNumber()).isEqualTo(101L);
+
+        then(bookingRepository).should().saveAll(argThat(reservations -> ((List<?>) reservations).size() == 2));
+        then(bookingRepository).should().flush();
+        then(eventPublisher).should(times(2)).publishEvent(any(ReservationChangedEvent.class));
+    }
+
+    @Test
+    void createReservations_bestEffort_concurrentOverlapOnFlush_retriesAndReportsTheConflict() {
+        UUID roomId = UUID.randomUUID();
+        UUID otherRoomId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.BEST_EFFORT)
+                .reservations(List.of(
+                        batchItem(roomId, day, day.plusDays(2)),
+                        batchItem(otherRoomId, day, day.plusDays(2))))
+                .build();
+
+        given(roomCatalog.findAllById(any())).willReturn(Map.of(
+                roomId, RoomsMapper.INSTANCE.map(buildRoom(roomId, 101L, RoomType.SINGLE)),
+                otherRoomId, RoomsMapper.INSTANCE.map(buildRoom(otherRoomId, 102L, RoomType.SINGLE))));
+        // The concurrent booking is committed by the time the second attempt checks.
+        given(bookingRepository.findActivePeriodsForRooms(any(), any(), any()))
+                .willReturn(List.of())
+                .willReturn(List.of(new ReservationPeriod(UUID.randomUUID(), roomId, day.plusDays(1), day.plusDays(3))));
+        PSQLException overlap = new PSQLException(new ServerErrorMessage("SERROR\0C23P01\0Mconflicting key value\0"));
+        willThrow(new DataIntegrityViolationException("overlap", overlap)).willDoNothing().given(bookingRepository).flush();
+
+        BatchReservationResponse resp = bookingService.createReservations(batch);
+
+        assertThat(resp.created()).isEqualTo(1);
+        assertThat(resp.items()).extracting(BatchReservationItem::status)
+                .containsExactly(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED);
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(bookingMetrics).should().conflict(ConflictCause.ROOM_ALREADY_BOOKED);
+        then(eventPublisher).should(times(1)).publishEvent(any(ReservationChangedEvent.class));
+    }
+
+    @Test
+    void createReservations_overlapOnEveryAttempt_givesUp() {
+        UUID roomId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.BEST_EFFORT)
+                .reservations(List.of(batchItem(roomId, day, day.plusDays(2))))
+                .build();
+
+        given(roomCatalog.findAllById(any())).willReturn(Map.of(roomId, RoomsMapper.INSTANCE.map(buildRoom(roomId, 101L, RoomType.SINGLE))));
+        given(bookingRepository.findActivePeriodsForRooms(any(), any(), any())).willReturn(List.of());
+        PSQLException overlap = new PSQLException(new ServerErrorMessage("SERROR\0C23P01\0Mconflicting key value\0"));
+        willThrow(new DataIntegrityViolationException("overlap", overlap)).given(bookingRepository).flush();
+
+        assertThrows(RoomAlreadyBookedException.class, () -> bookingService.createReservations(batch));
+
+        then(bookingRepository).should(times(3)).flush();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void createReservations_allOrNothing_insertsNothingOnConflict() {
+        UUID roomId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        BatchReservationRequest batch = BatchReservationRequest.builder()
+                .mode(BatchMode.ALL_OR_NOTHING)
+                .reservations(List.of(
+                        batchItem(roomId, day, day.plusDays(2)),
+                        batchItem(roomId, day.plusDays(1), day.plusDays(3))))
+                .build();
+
+        given(roomCatalog.findAllById(any())).willReturn(Map.of(roomId, RoomsMapper.INSTANCE.map(buildRoom(roomId, 101L, RoomType.SINGLE))));
+        given(bookingRepository.findActivePeriodsForRooms(any(), any(), any())).willReturn(List.of());
+
+        BatchReservationResponse resp = bookingService.createReservations(batch);
+
+        assertThat(resp.created()).isZero();
+        assertThat(resp.items()).extracting(BatchReservationItem::status)
+                .containsExactly(BatchItemStatus.SKIPPED, BatchItemStatus.CONFLICT);
+        then(bookingRepository).should(never()).saveAll(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
     @Test
     void updateReservation_success() {
         UUID resId = UUID.randomUUID();
@@ -154,9 +424,7 @@ class BookingServiceTest {
         Reservation existing = buildReservation(resId, roomId, UUID.randomUUID(), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 3));
 
         given(bookingRepository.findById(eq(resId))).willReturn(Optional.of(existing));
-        given(bookingRepository.findOverlappingReservations(eq(roomId), any(), any()))
-                .willReturn(Collections.emptyList());
-        given(bookingRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.<Reservation>getArgument(0));
+        given(bookingRepository.saveAndFlush(any(Reservation.class))).willAnswer(invocation -> invocation.<Reservation>getArgument(0));
 
         ReservationRequest req = ReservationRequest.builder()
                 .roomId(roomId)
@@ -173,8 +441,8 @@ class BookingServiceTest {
         assertThat(resp.checkoutDate()).isEqualTo(LocalDate.of(2025, 2, 4));
 
         then(bookingRepository).should().findById(resId);
-        then(bookingRepository).should().findOverlappingReservations(eq(roomId), any(), any());
-        then(bookingRepository).should().save(any(Reservation.class));
+        then(bookingRepository).should(never()).findOverlappingReservations(any(), any(), any());
+        then(bookingRepository).should().saveAndFlush(any(Reservation.class));
     }
 
     @Test
@@ -193,7 +461,8 @@ class BookingServiceTest {
     }
 
     @Test
-    void updateReservation_conflict_throwsBookingConflict() {
+    void updateReservation_preCheck_conflict_throwsBookingConflict() {
+        bookingWriteConfig.setConflictCheck(ConflictCheck.PRE_CHECK);
         UUID existingResId = UUID.randomUUID();
         UUID conflictingResId = UUID.randomUUID();
         UUID roomId = UUID.randomUUID();
@@ -224,10 +493,9 @@ class BookingServiceTest {
         Reservation existing = buildReservation(id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
 
         given(bookingRepository.findById(eq(id))).willReturn(Optional.of(existing));
-        given(bookingRepository.findOverlappingReservations(any(), any(), any())).willReturn(Collections.emptyList());
 
         // Simulate save throwing an optimistic lock exception
-        willThrow(new ObjectOptimisticLockingFailureException("obj", "can't")).given(bookingRepository).save(any());
+        willThrow(new ObjectOptimisticLockingFailureException("obj", "can't")).given(bookingRepository).saveAndFlush(any());
 
         ReservationRequest req = ReservationRequest.builder()
                 .roomId(existing.getRoomId()).userId(existing.getUserId())
@@ -236,9 +504,9 @@ class BookingServiceTest {
 
         assertThrows(BookingConflictException.class, () -> bookingService.updateReservation(id, req));
 
+        then(bookingMetrics).should().conflict(ConflictCause.OPTIMISTIC_LOCK);
         then(bookingRepository).should().findById(id);
-        then(bookingRepository).should().findOverlappingReservations(any(), any(), any());
-        then(bookingRepository).should().save(any());
+        then(bookingRepository).should().saveAndFlush(any());
     }
 
     @Test
@@ -246,12 +514,26 @@ class BookingServiceTest {
         UUID id = UUID.randomUUID();
         Reservation existing = buildReservation(id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
         given(bookingRepository.findById(eq(id))).willReturn(Optional.of(existing));
-        willAnswer(invocation -> invocation.getArgument(0)).given(bookingRepository).save(any(Reservation.class));
+        willAnswer(invocation -> invocation.getArgument(0)).given(bookingRepository).saveAndFlush(any(Reservation.class));
 
         bookingService.cancelReservation(id);
 
         assertThat(existing.getStatus()).isEqualTo(BookingStatusType.CANCELLED);
-        then(bookingRepository).should().save(existing);
+        then(bookingRepository).should().saveAndFlush(existing);
+        then(eventPublisher).should().publishEvent(ReservationChangedEvent.cancelled(existing));
+    }
+
+    @Test
+    void cancelReservation_alreadyCancelled_publishesNothing() {
+        UUID id = UUID.randomUUID();
+        Reservation existing = buildReservation(id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
+        existing.setStatus(BookingStatusType.CANCELLED);
+        given(bookingRepository.findById(eq(id))).willReturn(Optional.of(existing));
+
+        bookingService.cancelReservation(id);
+
+        then(bookingRepository).should(never()).saveAndFlush(any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @Test
@@ -265,7 +547,7 @@ class BookingServiceTest {
     @Test
     void getAllReservations_mapsPages() {
         Reservation r1 = buildReservation(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
-        given(bookingRepository.findAll(PageRequest.of(0, 20))).willReturn(new PageImpl<>(List.of(r1)));
+        given(bookingRepository.findFirstSlice(PageRequest.of(0, 20))).willReturn(new SliceImpl<>(List.of(r1)));
 
         List<ReservationResponse> result = bookingService.getAllReservations(0, 20);
 
@@ -273,7 +555,44 @@ class BookingServiceTest {
         assertThat(result.get(0).id()).isNotNull();
         assertThat(result.get(0).firstname()).isNotNull();
 
-        then(bookingRepository).should().findAll(PageRequest.of(0, 20));
+        then(bookingRepository).should().findFirstSlice(PageRequest.of(0, 20));
+    }
+
+    @Test
+    void scrollReservations_returnsCursor_thatSeeksPastLastItem() {
+        Reservation r1 = buildReservation(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
+        Reservation r2 = buildReservation(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
+        given(bookingRepository.findFirstSlice(PageRequest.ofSize(2)))
+                .willReturn(new SliceImpl<>(List.of(r1, r2), PageRequest.ofSize(2), true));
+        given(bookingRepository.findSliceAfter(r2.getCreatedDate(), r2.getId(), PageRequest.ofSize(2)))
+                .willReturn(new SliceImpl<>(List.of(r1), PageRequest.ofSize(2), false));
+
+        ReservationPageResponse first = bookingService.scrollReservations(null, 2);
+        ReservationPageResponse last = bookingService.scrollReservations(first.nextCursor(), 2);
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(last.items()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void pagedReads_rejectSizesOutsideTheBounds() {
+        UUID userId = UUID.randomUUID();
+
+        assertThrows(ValidationException.class, () -> bookingService.getAllReservations(0, 0));
+        assertThrows(ValidationException.class, () -> bookingService.getAllReservations(-1, 20));
+        assertThrows(ValidationException.class, () -> bookingService.getAllReservationsByUser(userId, 0, 101));
+        assertThrows(ValidationException.class, () -> bookingService.scrollReservations(null, 0));
+        assertThrows(ValidationException.class, () -> bookingService.scrollReservationsByUser(userId, null, 101));
+        then(bookingRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void scrollReservationsByUser_invalidCursor_throwsValidation() {
+        assertThrows(ValidationException.class, () -> bookingService.scrollReservationsByUser(UUID.randomUUID(), "not-a-cursor", 20));
+
+        then(bookingRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -291,23 +610,36 @@ class BookingServiceTest {
     }
 
     @Test
-    void getAvailableRooms_filters_rooms_with_overlaps() {
-        UUID room1Id = UUID.randomUUID();
+    void getAvailableRooms_maps_rooms_from_single_query() {
         UUID room2Id = UUID.randomUUID();
-
-        Rooms room1 = buildRoom(room1Id, 1L, RoomType.SINGLE);
         Rooms room2 = buildRoom(room2Id, 2L, RoomType.DOUBLE);
+        LocalDate checkin = LocalDate.now();
+        LocalDate checkout = LocalDate.now().plusDays(1);
 
-        // room1 has overlapping reservation; room2 none
-        Reservation overlap = buildReservation(UUID.randomUUID(), room1Id, UUID.randomUUID(), LocalDate.now(), LocalDate.now().plusDays(1));
-        given(roomsRepository.findAll()).willReturn(List.of(room1, room2));
-        given(bookingRepository.findOverlappingReservations(eq(room1Id), any(), any())).willReturn(List.of(overlap));
-        given(bookingRepository.findOverlappingReservations(eq(room2Id), any(), any())).willReturn(Collections.emptyList());
+        given(roomsRepository.findAvailableRooms(checkin, checkout)).willReturn(List.of(room2));
 
-        List<RoomsDto> available = bookingService.getAvailableRooms(LocalDate.now(), LocalDate.now().plusDays(1));
+        List<RoomsDto> available = bookingService.getAvailableRooms(checkin, checkout);
 
         assertThat(available).hasSize(1);
         assertThat(available.get(0).id()).isEqualTo(room2Id);
         assertThat(available.get(0).roomNumber()).isEqualTo(2L);
+        assertThat(available.get(0).type()).isEqualTo(RoomType.DOUBLE);
+
+        then(roomsRepository).should().findAvailableRooms(checkin, checkout);
+        then(bookingRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getAvailableRooms_served_from_index_without_query() {
+        LocalDate checkin = LocalDate.now();
+        LocalDate checkout = LocalDate.now().plusDays(2);
+        RoomsDto dto = RoomsDto.builder().id(UUID.randomUUID()).roomNumber(7L).type(RoomType.SUITE).build();
+
+        given(availabilityIndex.findAvailableRooms(checkin, checkout)).willReturn(Optional.of(List.of(dto)));
+
+        List<RoomsDto> available = bookingService.getAvailableRooms(checkin, checkout);
+
+        assertThat(available).containsExactly(dto);
+        then(roomsRepository).shouldHaveNoInteractions();
     }
-}
\ No newline at end of file
+}
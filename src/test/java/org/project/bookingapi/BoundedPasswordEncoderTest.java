@@ -0,0 +1,94 @@
+package org.project.bookingapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.exception.LoadSheddingException;
+import org.project.bookingapi.service.BoundedPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void encodes_and_matches_on_the_hashing_pool() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 10, Duration.ofSeconds(1));
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+    }
+
+    @Test
+    void weaker_stored_hashes_are_flagged_for_upgrade() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 10, Duration.ofSeconds(1));
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+
+    @Test
+    void full_queue_is_shed() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(2));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (registry.get("executor.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        LoadSheddingException ex = assertThrows(LoadSheddingException.class, () -> encoder.encode("c"));
+        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    void calibration_stays_within_bounds() {
+        assertThat(BoundedPasswordEncoder.calibrateStrength(4, 6, Duration.ZERO)).isEqualTo(4);
+        assertThat(BoundedPasswordEncoder.calibrateStrength(4, 6, Duration.ofMinutes(1))).isEqualTo(6);
+    }
+}
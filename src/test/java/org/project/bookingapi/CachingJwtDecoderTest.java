@@ -0,0 +1,99 @@
+package org.project.bookingapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.service.CachingJwtDecoder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock
+    JwtDecoder delegate;
+    @Mock
+    Clock clock;
+
+    Instant now = Instant.parse("2030-01-01T10:00:00Z");
+    CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        decoder = new CachingJwtDecoder(delegate, 100, clock);
+    }
+
+    private Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(now)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    void repeated_token_is_verified_once() {
+        Jwt jwt = jwt("token-a", now.plusSeconds(900));
+        given(delegate.decode("token-a")).willReturn(jwt);
+
+        assertThat(decoder.decode("token-a")).isSameAs(jwt);
+        assertThat(decoder.decode("token-a")).isSameAs(jwt);
+
+        then(delegate).should(times(1)).decode("token-a");
+    }
+
+    @Test
+    void expired_entry_goes_back_to_delegate() {
+        given(delegate.decode("token-b"))
+                .willReturn(jwt("token-b", now.plusSeconds(60)))
+                .willThrow(new BadJwtException("expired"));
+
+        decoder.decode("token-b");
+        now = now.plusSeconds(61);
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-b"));
+        then(delegate).should(times(2)).decode("token-b");
+    }
+
+    @Test
+    void failures_are_not_cached() {
+        given(delegate.decode("token-c"))
+                .willThrow(new BadJwtException("bad signature"))
+                .willReturn(jwt("token-c", now.plusSeconds(900)));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-c"));
+        decoder.decode("token-c");
+
+        then(delegate).should(times(2)).decode("token-c");
+    }
+
+    @Test
+    void exposes_hit_and_miss_counts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decoder.bindTo(registry);
+        given(delegate.decode("token-d")).willReturn(jwt("token-d", now.plusSeconds(900)));
+
+        decoder.decode("token-d");
+        decoder.decode("token-d");
+        decoder.decode("token-d");
+
+        assertThat(registry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "jwt").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+}
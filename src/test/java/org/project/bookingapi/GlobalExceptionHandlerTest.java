@@ -3,8 +3,18 @@ package org.project.bookingapi;
 import org.junit.jupiter.api.Test;
 import org.project.bookingapi.exception.BookingConflictException;
 import org.project.bookingapi.exception.GlobalExceptionHandler;
+import org.project.bookingapi.exception.IdempotencyKeyInFlightException;
+import org.project.bookingapi.exception.IdempotencyKeyReusedException;
+import org.project.bookingapi.exception.LoadSheddingException;
 import org.project.bookingapi.exception.ResourceNotFoundException;
+import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.project.bookingapi.exception.ValidationException;
 import org.project.bookingapi.model.ApiError;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -25,6 +35,18 @@ class GlobalExceptionHandlerTest {
         assertThat(body.timestamp()).isNotNull();
     }
 
+    @Test
+    void handleRoomAlreadyBooked_buildsConflict() {
+        RoomAlreadyBookedException ex = new RoomAlreadyBookedException("already booked");
+        var entity = handler.handleRoomAlreadyBooked(ex);
+
+        assertThat(entity.getStatusCode().value()).isEqualTo(409);
+        ApiError body = entity.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.status()).isEqualTo(409);
+        assertThat(body.message()).isEqualTo("already booked");
+    }
+
     @Test
     void handleNotFound_buildsApiError() {
         ResourceNotFoundException ex = new ResourceNotFoundException("not found");
@@ -37,6 +59,47 @@ class GlobalExceptionHandlerTest {
         assertThat(body.status()).isEqualTo(404);
     }
 
+    @Test
+    void handleErrorResponse_keepsStatusAndProblemDetail() {
+        ValidationException ex = new ValidationException(HttpStatus.BAD_REQUEST, Map.of("cursor", "Invalid or expired cursor"));
+        var entity = handler.handleErrorResponse(ex);
+
+        assertThat(entity.getStatusCode().value()).isEqualTo(400);
+        assertThat(entity.getBody()).isNotNull();
+        assertThat(entity.getBody().getProperties().get("errors")).isEqualTo(Map.of("cursor", "Invalid or expired cursor"));
+    }
+
+    @Test
+    void handleLoadShedding_returns429_withRetryAfter() {
+        LoadSheddingException ex = new LoadSheddingException("busy", Duration.ofMillis(1500));
+        var entity = handler.handleLoadShedding(ex);
+
+        assertThat(entity.getStatusCode().value()).isEqualTo(429);
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(entity.getBody()).isNotNull();
+        assertThat(entity.getBody().message()).isEqualTo("busy");
+    }
+
+    @Test
+    void handleIdempotencyKeyInFlight_returns409_withRetryAfter() {
+        IdempotencyKeyInFlightException ex = new IdempotencyKeyInFlightException("still running", Duration.ofSeconds(2));
+        var entity = handler.handleIdempotencyKeyInFlight(ex);
+
+        assertThat(entity.getStatusCode().value()).isEqualTo(409);
+        assertThat(entity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(entity.getBody()).isNotNull();
+        assertThat(entity.getBody().message()).isEqualTo("still running");
+    }
+
+    @Test
+    void handleIdempotencyKeyReused_returns422() {
+        var entity = handler.handleIdempotencyKeyReused(new IdempotencyKeyReusedException("reused"));
+
+        assertThat(entity.getStatusCode().value()).isEqualTo(422);
+        assertThat(entity.getBody()).isNotNull();
+        assertThat(entity.getBody().message()).isEqualTo("reused");
+    }
+
     @Test
     void handleAll_buildsInternalServerError() {
         Exception ex = new RuntimeException("boom");
@@ -47,5 +110,6 @@ class GlobalExceptionHandlerTest {
         assertThat(body).isNotNull();
         assertThat(body.message()).isEqualTo("boom");
         assertThat(body.status()).isEqualTo(500);
+        assertThat(body.error()).isEqualTo("Internal Server Error");
     }
 }
\ No newline at end of file
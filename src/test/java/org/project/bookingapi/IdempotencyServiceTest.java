@@ -0,0 +1,190 @@
+package org.project.bookingapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.IdempotencyConfig;
+import org.project.bookingapi.entity.IdempotencyKey;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.exception.IdempotencyKeyInFlightException;
+import org.project.bookingapi.exception.IdempotencyKeyReusedException;
+import org.project.bookingapi.model.IdempotentResponse;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.model.response.ReservationResponse;
+import org.project.bookingapi.repository.IdempotencyKeyRepository;
+import org.project.bookingapi.service.BookingService;
+import org.project.bookingapi.service.IdempotencyService;
+import org.project.bookingapi.service.IdempotentReservationWriter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    BookingService bookingService;
+    @Mock
+    IdempotencyKeyRepository idempotencyKeyRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    IdempotentReservationWriter writer;
+    IdempotencyService idempotencyService;
+
+    final ReservationRequest request = ReservationRequest.builder()
+            .roomId(UUID.randomUUID()).userId(UUID.randomUUID())
+            .firstname("A").surname("B").roomNum(101)
+            .checkinDate(LocalDate.of(2030, 1, 1)).checkoutDate(LocalDate.of(2030, 1, 3))
+            .build();
+    final ReservationResponse response = ReservationResponse.builder()
+            .id(UUID.randomUUID()).roomId(request.roomId()).userId(request.userId())
+            .firstname("A").surname("B").roomNumber(101L)
+            .checkinDate(request.checkinDate()).checkoutDate(request.checkoutDate())
+            .status(BookingStatusType.ACTIVE)
+            .build();
+
+    @BeforeEach
+    void setup() {
+        writer = new IdempotentReservationWriter(bookingService, idempotencyKeyRepository, transactionTemplate, objectMapper);
+        idempotencyService = new IdempotencyService(writer, idempotencyKeyRepository, transactionTemplate,
+                objectMapper, new IdempotencyConfig());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void firstCall_books_andRetryReplaysFromCache() {
+        given(idempotencyKeyRepository.findById("anonymous:key-1")).willReturn(Optional.empty());
+        given(bookingService.createReservation(request)).willReturn(response);
+
+        IdempotentResponse first = idempotencyService.createReservation("key-1", request);
+        IdempotentResponse retry = idempotencyService.createReservation("key-1", request);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isEqualTo(response);
+        then(bookingService).should(times(1)).createReservation(request);
+        then(idempotencyKeyRepository).should().insert(eq("anonymous:key-1"), anyString(), anyString(), any());
+    }
+
+    @Test
+    void storedKey_isReplayedFromDatabase_withoutBooking() throws Exception {
+        given(idempotencyKeyRepository.findById("anonymous:key-2")).willReturn(Optional.empty());
+        given(bookingService.createReservation(request)).willReturn(response);
+        idempotencyService.createReservation("key-2", request);
+
+        IdempotencyService cold = new IdempotencyService(writer, idempotencyKeyRepository, transactionTemplate,
+                objectMapper, new IdempotencyConfig());
+        String hash = captureHash("anonymous:key-2");
+        given(idempotencyKeyRepository.findById("anonymous:key-2")).willReturn(Optional.of(IdempotencyKey.builder()
+                .key("anonymous:key-2").requestHash(hash)
+                .response(objectMapper.writeValueAsString(response))
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        IdempotentResponse replay = cold.createReservation("key-2", request);
+
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.response()).isEqualTo(response);
+        then(bookingService).should(times(1)).createReservation(request);
+    }
+
+    @Test
+    void sameKey_withDifferentRequest_isRejected() {
+        given(idempotencyKeyRepository.findById("anonymous:key-3")).willReturn(Optional.empty());
+        given(bookingService.createReservation(request)).willReturn(response);
+        idempotencyService.createReservation("key-3", request);
+
+        ReservationRequest other = ReservationRequest.builder()
+                .roomId(request.roomId()).userId(request.userId())
+                .firstname("A").surname("B").roomNum(101)
+                .checkinDate(request.checkinDate()).checkoutDate(LocalDate.of(2030, 1, 5))
+                .build();
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyService.createReservation("key-3", other));
+        then(bookingService).should(never()).createReservation(other);
+    }
+
+    @Test
+    void concurrentDuplicates_areCoalescedOntoFirstExecution() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(idempotencyKeyRepository.findById("anonymous:key-4")).willReturn(Optional.empty());
+        given(bookingService.createReservation(request)).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() -> idempotencyService.createReservation("key-4", request));
+        entered.await(5, TimeUnit.SECONDS);
+        CompletableFuture<IdempotentResponse> duplicate = CompletableFuture.supplyAsync(() -> idempotencyService.createReservation("key-4", request));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).response()).isEqualTo(response);
+        then(bookingService).should(times(1)).createReservation(request);
+    }
+
+    @Test
+    void duplicate_thatOutwaitsTheOriginal_isToldToRetry() throws Exception {
+        IdempotencyConfig config = new IdempotencyConfig();
+        config.setWaitTimeout(Duration.ofMillis(50));
+        IdempotencyService service = new IdempotencyService(writer, idempotencyKeyRepository, transactionTemplate,
+                objectMapper, config);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(idempotencyKeyRepository.findById("anonymous:key-5")).willReturn(Optional.empty());
+        given(bookingService.createReservation(request)).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() -> service.createReservation("key-5", request));
+        entered.await(5, TimeUnit.SECONDS);
+
+        IdempotencyKeyInFlightException ex = assertThrows(IdempotencyKeyInFlightException.class,
+                () -> service.createReservation("key-5", request));
+        release.countDown();
+
+        assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(50));
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        then(bookingService).should(times(1)).createReservation(request);
+    }
+
+    private String captureHash(String key) {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        then(idempotencyKeyRepository).should().insert(eq(key), captor.capture(), anyString(), any());
+        return captor.getValue();
+    }
+}
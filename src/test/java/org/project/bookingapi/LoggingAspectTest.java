@@ -0,0 +1,137 @@
+package org.project.bookingapi;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.config.TracingConfig;
+import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoggingAspectTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LoggingAspect aspect = aspect(3, 10);
+
+    private LoggingAspect aspect(int maxElements, int maxLength) {
+        TracingConfig config = new TracingConfig();
+        config.setMaxCollectionElements(maxElements);
+        config.setMaxStringLength(maxLength);
+        return new LoggingAspect(config, meterRegistry);
+    }
+
+    @Component
+    static class Greeter {
+        String greet(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("name");
+            }
+            return "Hello " + name;
+        }
+    }
+
+    @Component
+    static class Inner {
+        void book(RuntimeException failure) {
+            throw failure;
+        }
+    }
+
+    @Component
+    static class Outer {
+        Inner inner;
+
+        void book(RuntimeException failure) {
+            inner.book(failure);
+        }
+    }
+
+    final Logger testLogger = (Logger) LoggerFactory.getLogger(LoggingAspectTest.class);
+    final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private Outer nested() {
+        Outer outer = new Outer();
+        outer.inner = proxy(new Inner());
+        appender.start();
+        testLogger.addAppender(appender);
+        testLogger.setLevel(Level.INFO);
+        return proxy(outer);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        testLogger.detachAppender(appender);
+        testLogger.setLevel(null);
+    }
+
+    @Test
+    void failure_isLoggedOnce_byTheOutermostCall() {
+        Outer outer = nested();
+
+        assertThrows(IllegalStateException.class, () -> outer.book(new IllegalStateException("boom")));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getLoggerName()).endsWith("$Outer");
+            assertThat(event.getThrowableProxy()).isNotNull();
+        });
+    }
+
+    @Test
+    void clientError_isNotLoggedAtWarn() {
+        Outer outer = nested();
+
+        assertThrows(RoomAlreadyBookedException.class, () -> outer.book(new RoomAlreadyBookedException("taken")));
+
+        assertThat(appender.list).noneMatch(event -> event.getLevel().isGreaterOrEqual(Level.INFO));
+    }
+
+    @Test
+    void render_truncatesLargeCollections() {
+        List<Integer> values = IntStream.range(0, 1000).boxed().toList();
+
+        assertThat(aspect.render(values)).isEqualTo("[0, 1, 2, ...(+997 more)]");
+    }
+
+    @Test
+    void render_truncatesLongStrings_insideArguments() {
+        Object[] args = {"abcdefghijklmnopqrstuvwxyz", 42, null};
+
+        assertThat(aspect.render(args)).isEqualTo("[abcdefghij...(26 chars), 42, null]");
+    }
+
+    @Test
+    void logAround_timesCalls_byMethodAndException() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Greeter());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        Greeter greeter = factory.getProxy();
+
+        greeter.greet("a");
+        greeter.greet("b");
+        assertThrows(IllegalArgumentException.class, () -> greeter.greet(""));
+
+        assertThat(meterRegistry.get("method.timed").tags("class", "Greeter", "method", "greet", "exception", "none")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("method.timed").tags("exception", "IllegalArgumentException")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,131 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.OutboxConfig;
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ReservationChangeType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.project.bookingapi.model.ReservationChange;
+import org.project.bookingapi.outbox.OutboxRelay;
+import org.project.bookingapi.outbox.OutboxSink;
+import org.project.bookingapi.outbox.ReservationOutboxWriter;
+import org.project.bookingapi.repository.ReservationOutboxRepository;
+import org.project.bookingapi.service.ReservationChangeFeed;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    ReservationOutboxRepository reservationOutboxRepository;
+    @Mock
+    OutboxSink outboxSink;
+    @Mock
+    ReservationChangeFeed reservationChangeFeed;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    final OutboxConfig config = new OutboxConfig();
+    OutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        config.setBatchSize(2);
+        relay = new OutboxRelay(reservationOutboxRepository, outboxSink, reservationChangeFeed, transactionTemplate, config);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static ReservationOutbox row(long id, long sequenceNumber) {
+        return ReservationOutbox.builder()
+                .id(id).sequenceNumber(sequenceNumber)
+                .reservationId(UUID.randomUUID()).roomId(UUID.randomUUID())
+                .type(ReservationChangeType.CREATED)
+                .checkinDate(LocalDate.of(2030, 1, 1)).checkoutDate(LocalDate.of(2030, 1, 2))
+                .build();
+    }
+
+    @Test
+    void sequencesAndPublishesInBatches_thenWakesTheFeed() {
+        given(reservationOutboxRepository.tryLock(anyLong())).willReturn(true);
+        given(reservationOutboxRepository.assignSequenceNumbers(2)).willReturn(2, 1);
+        given(reservationOutboxRepository.findBySequenceNumberNotNullAndPublishedAtIsNullOrderBySequenceNumber(any()))
+                .willReturn(List.of(row(10, 1), row(11, 2)), List.of(row(12, 3)));
+
+        relay.relay();
+
+        then(outboxSink).should().publish(argThat(changes -> changes.stream().map(ReservationChange::sequenceNumber).toList().equals(List.of(1L, 2L))));
+        then(outboxSink).should().publish(argThat(changes -> changes.size() == 1 && changes.get(0).sequenceNumber() == 3));
+        then(reservationOutboxRepository).should().markPublished(argThat(ids -> ids.containsAll(List.of(10L, 11L))), any());
+        then(reservationOutboxRepository).should().markPublished(argThat(ids -> ids.contains(12L)), any());
+        then(reservationChangeFeed).should().changesAvailable();
+    }
+
+    @Test
+    void withoutTheLock_doesNothingButStillWakesTheFeed() {
+        given(reservationOutboxRepository.tryLock(anyLong())).willReturn(false);
+
+        relay.relay();
+
+        then(reservationOutboxRepository).should(never()).assignSequenceNumbers(anyInt());
+        then(outboxSink).shouldHaveNoInteractions();
+        then(reservationChangeFeed).should().changesAvailable();
+    }
+
+    @Test
+    void failingSink_leavesTheBatchUnpublished() {
+        given(reservationOutboxRepository.tryLock(anyLong())).willReturn(true);
+        given(reservationOutboxRepository.assignSequenceNumbers(2)).willReturn(1);
+        given(reservationOutboxRepository.findBySequenceNumberNotNullAndPublishedAtIsNullOrderBySequenceNumber(any()))
+                .willReturn(List.of(row(10, 1)));
+        willThrow(new IllegalStateException("sink down")).given(outboxSink).publish(any());
+
+        relay.relay();
+
+        then(reservationOutboxRepository).should(never()).markPublished(any(), any());
+        then(reservationChangeFeed).should().changesAvailable();
+    }
+
+    @Test
+    void writer_recordsTheChangeType() {
+        var writer = new ReservationOutboxWriter(reservationOutboxRepository, config);
+        var reservationId = UUID.randomUUID();
+        var day = LocalDate.of(2030, 1, 1);
+
+        writer.onReservationChanged(new ReservationChangedEvent(reservationId, UUID.randomUUID(), null, null,
+                day, day.plusDays(1), BookingStatusType.ACTIVE));
+        writer.onReservationChanged(new ReservationChangedEvent(reservationId, UUID.randomUUID(), day, day.plusDays(1),
+                day, day.plusDays(2), BookingStatusType.ACTIVE));
+        writer.onReservationChanged(new ReservationChangedEvent(reservationId, UUID.randomUUID(), day, day.plusDays(2),
+                day, day.plusDays(2), BookingStatusType.CANCELLED));
+
+        var captor = ArgumentCaptor.forClass(ReservationOutbox.class);
+        then(reservationOutboxRepository).should(times(3)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ReservationOutbox::getType).containsExactly(
+                ReservationChangeType.CREATED, ReservationChangeType.UPDATED, ReservationChangeType.CANCELLED);
+        assertThat(captor.getAllValues()).extracting(ReservationOutbox::getReservationId).containsOnly(reservationId);
+    }
+}
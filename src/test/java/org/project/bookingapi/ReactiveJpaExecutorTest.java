@@ -0,0 +1,40 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.util.ReactiveJpaExecutor;
+import org.slf4j.MDC;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+class ReactiveJpaExecutorTest {
+
+    ReactiveJpaExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+        MDC.clear();
+    }
+
+    @Test
+    void monoBlocking_runsOnVirtualThread_withCallerMdc() {
+        executor = new ReactiveJpaExecutor(true);
+        MDC.put("traceId", "trace-1");
+
+        StepVerifier.create(executor.monoBlocking(() -> Thread.currentThread().isVirtual() + ":" + MDC.get("traceId")))
+                .expectNext("true:trace-1")
+                .verifyComplete();
+    }
+
+    @Test
+    void fluxBlocking_runsOnPlatformThread_whenVirtualThreadsDisabled() {
+        executor = new ReactiveJpaExecutor(false);
+        MDC.put("traceId", "trace-2");
+
+        StepVerifier.create(executor.fluxBlocking(() -> List.of(Thread.currentThread().isVirtual(), MDC.get("traceId"))))
+                .expectNext(false, "trace-2")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,139 @@
+package org.project.bookingapi;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.datasource.ReplicaRoutingDataSource;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.event.ReservationChangedEvent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    HikariDataSource primary;
+    @Mock
+    HikariDataSource replica;
+    @Mock
+    Clock clock;
+
+    Instant now = Instant.parse("2030-01-01T10:00:00Z");
+    final AtomicReference<String> primaryLsn = new AtomicReference<>("0/100");
+    final AtomicReference<String> replayedLsn = new AtomicReference<>("0/0");
+    Connection primaryConnection;
+    Connection replicaConnection;
+    ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        primaryConnection = connection(primary, primaryLsn);
+        replicaConnection = connection(replica, replayedLsn);
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5), clock);
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static Connection connection(HikariDataSource pool, AtomicReference<String> lsn) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(pool.getConnection()).thenReturn(connection);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        lenient().when(resultSet.getString(1)).thenAnswer(invocation -> lsn.get());
+        return connection;
+    }
+
+    private void signInAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private void book() {
+        dataSource.onReservationChanged(new ReservationChangedEvent(UUID.randomUUID(), UUID.randomUUID(), null, null,
+                LocalDate.of(2030, 2, 1), LocalDate.of(2030, 2, 2), BookingStatusType.ACTIVE));
+    }
+
+    @Test
+    void readsGoToThePrimaryUntilTheReplicaIsKnownToBeFresh() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        replayedLsn.set("0/100");
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void replicaThatStopsReplaying_dropsOutAfterMaxLag() throws SQLException {
+        replayedLsn.set("0/100");
+        dataSource.checkLag();
+
+        now = now.plusSeconds(3);
+        primaryLsn.set("0/200");
+        dataSource.checkLag();
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+
+        now = now.plusSeconds(3);
+        primaryLsn.set("0/300");
+        dataSource.checkLag();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void userWhoJustBooked_readsFromThePrimaryUntilTheReplicaHasTheirCommit() throws SQLException {
+        replayedLsn.set("0/100");
+        dataSource.checkLag();
+
+        signInAs("alice");
+        now = now.plusSeconds(1);
+        book();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        signInAs("bob");
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+
+        signInAs("alice");
+        now = now.plusSeconds(1);
+        primaryLsn.set("1/0");
+        replayedLsn.set("1/0");
+        dataSource.checkLag();
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void standaloneServerIsNeverUsedAsReplica() throws SQLException {
+        replayedLsn.set(null);
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+}
@@ -0,0 +1,111 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.OutboxConfig;
+import org.project.bookingapi.entity.ReservationOutbox;
+import org.project.bookingapi.enums.ReservationChangeType;
+import org.project.bookingapi.model.ReservationChange;
+import org.project.bookingapi.model.response.ReservationChangesResponse;
+import org.project.bookingapi.repository.ReservationOutboxRepository;
+import org.project.bookingapi.service.ReservationChangeFeed;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationChangeFeedTest {
+
+    @Mock
+    ReservationOutboxRepository reservationOutboxRepository;
+
+    ReservationChangeFeed feed;
+
+    @BeforeEach
+    void setup() {
+        feed = new ReservationChangeFeed(reservationOutboxRepository, new OutboxConfig());
+    }
+
+    private static ReservationOutbox row(long sequenceNumber) {
+        return ReservationOutbox.builder()
+                .id(sequenceNumber).sequenceNumber(sequenceNumber)
+                .reservationId(UUID.randomUUID()).roomId(UUID.randomUUID())
+                .type(ReservationChangeType.CREATED)
+                .checkinDate(LocalDate.of(2030, 1, 1)).checkoutDate(LocalDate.of(2030, 1, 2))
+                .build();
+    }
+
+    @Test
+    void returnsPendingChangesImmediately() {
+        given(reservationOutboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(5L, Limit.of(100)))
+                .willReturn(List.of(row(6), row(7)));
+
+        var result = feed.poll(5, 100, Duration.ofSeconds(10));
+
+        var page = (ReservationChangesResponse) result.getResult();
+        assertThat(page.items()).extracting(ReservationChange::sequenceNumber).containsExactly(6L, 7L);
+        assertThat(page.nextCursor()).isEqualTo(7);
+    }
+
+    @Test
+    void zeroWait_returnsEmptyPageWithSameCursor() {
+        given(reservationOutboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(eq(5L), any())).willReturn(List.of());
+
+        var result = feed.poll(5, 100, Duration.ZERO);
+
+        var page = (ReservationChangesResponse) result.getResult();
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isEqualTo(5);
+    }
+
+    @Test
+    void longerWait_isClampedToTheLongPollTimeout() {
+        given(reservationOutboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(eq(5L), any())).willReturn(List.of());
+
+        var result = feed.poll(5, 100, Duration.ofHours(24));
+
+        assertThat(result).extracting("timeoutValue").isEqualTo(new OutboxConfig().getLongPollTimeout().toMillis());
+    }
+
+    @Test
+    void parkedPolls_shareOneReadPerCursor_whenTheFeedAdvances() {
+        given(reservationOutboxRepository.findBySequenceNumberGreaterThanOrderBySequenceNumber(eq(5L), any()))
+                .willReturn(List.of(), List.of(), List.of(row(6), row(7)));
+        var first = feed.poll(5, 1, Duration.ofSeconds(10));
+        var second = feed.poll(5, 10, Duration.ofSeconds(10));
+        assertThat(first.hasResult()).isFalse();
+
+        given(reservationOutboxRepository.findLastSequenceNumber()).willReturn(5L);
+        feed.changesAvailable();
+        assertThat(first.hasResult()).isFalse();
+
+        given(reservationOutboxRepository.findLastSequenceNumber()).willReturn(7L);
+        feed.changesAvailable();
+
+        assertThat(((ReservationChangesResponse) first.getResult()).items()).hasSize(1);
+        assertThat(((ReservationChangesResponse) first.getResult()).nextCursor()).isEqualTo(6);
+        assertThat(((ReservationChangesResponse) second.getResult()).items()).hasSize(2);
+        then(reservationOutboxRepository).should(times(3)).findBySequenceNumberGreaterThanOrderBySequenceNumber(eq(5L), any());
+    }
+
+    @Test
+    void noParkedPolls_skipsTheHeadQuery() {
+        feed.changesAvailable();
+
+        then(reservationOutboxRepository).should(never()).findLastSequenceNumber();
+    }
+}
@@ -0,0 +1,92 @@
+package org.project.bookingapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.enums.BookingStatusType;
+import org.project.bookingapi.enums.ExportFormat;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.service.ReservationExportService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+    @Mock
+    BookingRepository bookingRepository;
+    @Mock
+    EntityManager entityManager;
+
+    ReservationExportService exportService;
+
+    final LocalDate from = LocalDate.of(2025, 1, 1);
+    final LocalDate to = LocalDate.of(2025, 2, 1);
+    final Set<BookingStatusType> statuses = EnumSet.allOf(BookingStatusType.class);
+
+    @BeforeEach
+    void setup() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new ReservationExportService(bookingRepository, entityManager, objectMapper);
+    }
+
+    private Reservation reservation(String firstName, String lastName) {
+        return Reservation.builder()
+                .id(UUID.randomUUID()).userId(UUID.randomUUID()).roomId(UUID.randomUUID())
+                .roomNumber(101).firstName(firstName).lastName(lastName)
+                .checkinDate(LocalDate.of(2025, 1, 10)).checkoutDate(LocalDate.of(2025, 1, 12))
+                .status(BookingStatusType.ACTIVE)
+                .createdDate(LocalDateTime.of(2024, 12, 1, 9, 30))
+                .build();
+    }
+
+    @Test
+    void export_ndjson_writesOneLinePerReservation_andDetaches() throws Exception {
+        Reservation r1 = reservation("Ann", "Lee");
+        Reservation r2 = reservation("Bo", "Chen");
+        given(bookingRepository.streamForExport(from, to, statuses)).willReturn(Stream.of(r1, r2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(from, to, statuses, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":\"" + r1.getId()).contains("\"checkinDate\":\"2025-01-10\"");
+        then(entityManager).should().detach(r1);
+        then(entityManager).should().detach(r2);
+    }
+
+    @Test
+    void export_csv_quotesFieldsWithSeparators() throws Exception {
+        Reservation r1 = reservation("Ann, Jr.", "O\"Neil");
+        given(bookingRepository.streamForExport(from, to, statuses)).willReturn(Stream.of(r1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(from, to, statuses, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).startsWith("id,user_id,room_id");
+        assertThat(lines[1]).isEqualTo("%s,%s,%s,101,\"Ann, Jr.\",\"O\"\"Neil\",2025-01-10,2025-01-12,ACTIVE,2024-12-01T09:30"
+                .formatted(r1.getId(), r1.getUserId(), r1.getRoomId()));
+    }
+}
@@ -0,0 +1,81 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.ReservationPartitionConfig;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.service.ReservationPartitionMaintenance;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationPartitionMaintenanceTest {
+
+    @Mock
+    BookingRepository bookingRepository;
+
+    final ReservationPartitionConfig config = new ReservationPartitionConfig();
+    ReservationPartitionMaintenance maintenance;
+    final LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+    @BeforeEach
+    void setup() {
+        maintenance = new ReservationPartitionMaintenance(bookingRepository, config);
+    }
+
+    @Test
+    void premakesThisMonthThroughTheConfiguredMonthsAhead() {
+        config.setPremakeMonths(3);
+        config.setArchiveAfter(null);
+        given(bookingRepository.createPartition(any())).willReturn(false);
+
+        maintenance.maintain();
+
+        then(bookingRepository).should(times(4)).createPartition(any());
+        then(bookingRepository).should().createPartition(thisMonth);
+        then(bookingRepository).should().createPartition(thisMonth.plusMonths(3));
+        then(bookingRepository).should(never()).archivePartitions(any());
+    }
+
+    @Test
+    void archivesPartitionsThatEndedBeforeTheRetention() {
+        config.setPremakeMonths(0);
+        config.setArchiveAfter(Period.ofYears(3));
+        given(bookingRepository.archivePartitions(any())).willReturn(List.of("reservation_2020_01"));
+
+        maintenance.maintain();
+
+        then(bookingRepository).should().archivePartitions(LocalDate.now().minusYears(3).withDayOfMonth(1));
+    }
+
+    @Test
+    void neverArchivesPartitionsThatMayHoldStaysStillInProgress() {
+        config.setPremakeMonths(0);
+        config.setArchiveAfter(Period.ofMonths(1));
+        given(bookingRepository.archivePartitions(any())).willReturn(List.of());
+
+        maintenance.maintain();
+
+        then(bookingRepository).should().archivePartitions(LocalDate.now().minusDays(365).withDayOfMonth(1));
+    }
+
+    @Test
+    void failureIsLeftForTheNextRun() {
+        given(bookingRepository.createPartition(any())).willThrow(new IllegalStateException("lock timeout"));
+
+        maintenance.maintain();
+
+        then(bookingRepository).should(never()).archivePartitions(any());
+    }
+}
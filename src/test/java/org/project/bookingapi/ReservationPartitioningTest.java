@@ -0,0 +1,114 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.entity.Reservation;
+import org.project.bookingapi.exception.RoomAlreadyBookedException;
+import org.project.bookingapi.model.request.ReservationRequest;
+import org.project.bookingapi.repository.BookingRepository;
+import org.project.bookingapi.service.BookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationPartitioningTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    static final UUID USER_ID = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+    static final UUID SINGLE = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    static final UUID DOUBLE = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    static final UUID SUITE = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    static final UUID DELUXE = UUID.fromString("44444444-4444-4444-4444-444444444444");
+
+    @Autowired
+    BookingService bookingService;
+    @Autowired
+    BookingRepository bookingRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private static ReservationRequest request(UUID roomId, LocalDate checkin, LocalDate checkout) {
+        return ReservationRequest.builder()
+                .roomId(roomId).userId(USER_ID)
+                .firstname("Partition").surname("Test")
+                .roomNum(1)
+                .checkinDate(checkin).checkoutDate(checkout)
+                .build();
+    }
+
+    private int rowsIn(String partition, UUID id) {
+        return jdbcTemplate.queryForObject("select count(*) from booking." + partition + " where id = ?", Integer.class, id);
+    }
+
+    private static String partitionOf(LocalDate date) {
+        return "reservation_" + date.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    }
+
+    @Test
+    void overlapAcrossMonthPartitions_isRejected() {
+        LocalDate lastOfMonth = LocalDate.now().plusMonths(2).withDayOfMonth(1).minusDays(1);
+        bookingService.createReservation(request(SINGLE, lastOfMonth.minusDays(1), lastOfMonth.plusDays(3)));
+
+        assertThrows(RoomAlreadyBookedException.class,
+                () -> bookingService.createReservation(request(SINGLE, lastOfMonth.plusDays(2), lastOfMonth.plusDays(4))));
+    }
+
+    @Test
+    void movingAStayToAnotherMonth_releasesItsOldDates() {
+        LocalDate checkin = LocalDate.now().plusMonths(3).withDayOfMonth(10);
+        var moved = bookingService.createReservation(request(DOUBLE, checkin, checkin.plusDays(2)));
+
+        bookingService.updateReservation(moved.id(), request(DOUBLE, checkin.plusMonths(1), checkin.plusMonths(1).plusDays(2)));
+
+        assertThat(rowsIn(partitionOf(checkin.plusMonths(1)), moved.id())).isOne();
+        bookingService.createReservation(request(DOUBLE, checkin, checkin.plusDays(2)));
+        assertThrows(RoomAlreadyBookedException.class,
+                () -> bookingService.createReservation(request(DOUBLE, checkin.plusMonths(1), checkin.plusMonths(1).plusDays(1))));
+    }
+
+    @Test
+    void stayBeyondThePremadeMonths_movesOutOfTheDefaultPartitionWhenItsMonthIsCreated() {
+        LocalDate checkin = LocalDate.now().plusMonths(40).withDayOfMonth(5);
+        var far = bookingService.createReservation(request(SUITE, checkin, checkin.plusDays(2)));
+        assertThat(rowsIn("reservation_default", far.id())).isOne();
+
+        assertThat(bookingRepository.createPartition(checkin)).isTrue();
+
+        assertThat(rowsIn("reservation_default", far.id())).isZero();
+        assertThat(rowsIn(partitionOf(checkin), far.id())).isOne();
+        assertThrows(RoomAlreadyBookedException.class,
+                () -> bookingService.createReservation(request(SUITE, checkin.plusDays(1), checkin.plusDays(3))));
+    }
+
+    @Test
+    void dateRangeQuery_skipsPartitionsNoOverlappingStayCanStartIn() {
+        LocalDate checkin = LocalDate.now().plusMonths(1);
+        bookingService.createReservation(request(DELUXE, checkin, checkin.plusDays(2)));
+        String tooEarly = partitionOf(checkin.minusDays(Reservation.MAX_STAY_NIGHTS).minusMonths(1));
+        jdbcTemplate.queryForObject("select booking.create_reservation_partition(?)", Boolean.class,
+                checkin.minusDays(Reservation.MAX_STAY_NIGHTS).minusMonths(1));
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                explain select * from booking.reservation r
+                where r.room_id = ? and r.status <> 'CANCELLED'
+                  and r.checkin_date > ? and r.checkin_date < ? and r.checkout_date > ?
+                """, String.class, DELUXE, checkin.minusDays(Reservation.MAX_STAY_NIGHTS), checkin.plusDays(2), checkin));
+
+        assertThat(plan).contains(partitionOf(checkin)).doesNotContain(tooEarly, "reservation_default");
+    }
+}
@@ -0,0 +1,127 @@
+package org.project.bookingapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.entity.Rooms;
+import org.project.bookingapi.enums.RoomType;
+import org.project.bookingapi.event.RoomsChangedEvent;
+import org.project.bookingapi.model.RoomsDto;
+import org.project.bookingapi.repository.RoomsRepository;
+import org.project.bookingapi.service.RoomCatalog;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RoomCatalogTest {
+
+    @Mock
+    RoomsRepository roomsRepository;
+
+    RoomCatalog catalog;
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    final Rooms room1 = Rooms.builder().id(UUID.randomUUID()).roomNumber(101L).type(RoomType.SINGLE).build();
+    final Rooms room2 = Rooms.builder().id(UUID.randomUUID()).roomNumber(102L).type(RoomType.DOUBLE).build();
+
+    @BeforeEach
+    void setup() {
+        catalog = new RoomCatalog(roomsRepository);
+        catalog.bindTo(meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("booking.room.catalog.lookups").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void lookups_areServedFromSnapshot_afterFirstLoad() {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(room1, room2));
+
+        assertThat(catalog.findById(room1.getId())).map(RoomsDto::roomNumber).contains(101L);
+        assertThat(catalog.findByRoomNumber(102L)).map(RoomsDto::id).contains(room2.getId());
+        assertThat(catalog.findAllById(Set.of(room1.getId(), room2.getId()))).hasSize(2);
+
+        then(roomsRepository).should(times(1)).findAll(any(Sort.class));
+        then(roomsRepository).shouldHaveNoMoreInteractions();
+        assertThat(lookups("hit")).isEqualTo(4);
+        assertThat(lookups("miss")).isZero();
+    }
+
+    @Test
+    void miss_fallsBackToDatabase_andRefreshesWhenFound() {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(room1), List.of(room1, room2));
+        given(roomsRepository.findById(room2.getId())).willReturn(Optional.of(room2));
+
+        assertThat(catalog.findById(room2.getId())).isPresent();
+        assertThat(catalog.findById(room2.getId())).isPresent();
+
+        then(roomsRepository).should(times(1)).findById(room2.getId());
+        then(roomsRepository).should(times(2)).findAll(any(Sort.class));
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void unknownRoom_doesNotRefresh() {
+        UUID unknown = UUID.randomUUID();
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(room1));
+        given(roomsRepository.findById(unknown)).willReturn(Optional.empty());
+
+        assertThat(catalog.findById(unknown)).isEmpty();
+
+        then(roomsRepository).should(times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void invalidate_reloadsOnNextLookup() {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(room1));
+
+        catalog.findAll();
+        catalog.invalidate();
+        catalog.findAll();
+
+        then(roomsRepository).should(times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void roomsChanged_reloadsOnNextLookup() {
+        given(roomsRepository.findAll(any(Sort.class))).willReturn(List.of(room1), List.of(room1, room2));
+
+        assertThat(catalog.findAll()).hasSize(1);
+        catalog.onRoomsChanged(new RoomsChangedEvent(room2.getId()));
+
+        assertThat(catalog.findByRoomNumber(102L)).map(RoomsDto::id).contains(room2.getId());
+        then(roomsRepository).should(times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void invalidate_duringLoad_discardsTheLoadedSnapshot() {
+        given(roomsRepository.findAll(any(Sort.class)))
+                .willAnswer(invocation -> {
+                    // A room change commits while this load is reading the old rooms.
+                    catalog.invalidate();
+                    return List.of(room1);
+                })
+                .willReturn(List.of(room1, room2));
+
+        assertThat(catalog.findAll()).hasSize(1);
+        assertThat(catalog.findAll()).hasSize(2);
+        assertThat(catalog.findAll()).hasSize(2);
+
+        then(roomsRepository).should(times(2)).findAll(any(Sort.class));
+    }
+}
@@ -0,0 +1,93 @@
+package org.project.bookingapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.bookingapi.config.UserCacheConfig;
+import org.project.bookingapi.entity.Users;
+import org.project.bookingapi.model.UserAccount;
+import org.project.bookingapi.repository.UsersRepository;
+import org.project.bookingapi.service.UserCache;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    UsersRepository usersRepository;
+
+    UserCache userCache;
+
+    final Users user = Users.builder()
+            .id(UUID.randomUUID())
+            .username("jdoe")
+            .email("jdoe@example.com")
+            .firstName("John")
+            .lastName("Doe")
+            .password("$2a$10$hash")
+            .build();
+
+    @BeforeEach
+    void setup() {
+        userCache = new UserCache(usersRepository, new UserCacheConfig());
+    }
+
+    @Test
+    void known_user_is_loaded_once() {
+        given(usersRepository.findByUsername("jdoe")).willReturn(Optional.of(user));
+
+        Optional<UserAccount> first = userCache.findByUsername("jdoe");
+        Optional<UserAccount> second = userCache.findByUsername("jdoe");
+
+        assertThat(first).isPresent();
+        assertThat(first.get().password()).isEqualTo("$2a$10$hash");
+        assertThat(second).isEqualTo(first);
+        then(usersRepository).should(times(1)).findByUsername("jdoe");
+    }
+
+    @Test
+    void unknown_user_is_negatively_cached_until_invalidated() {
+        given(usersRepository.findByUsername("ghost")).willReturn(Optional.empty());
+
+        assertThat(userCache.findByUsername("ghost")).isEmpty();
+        assertThat(userCache.findByUsername("ghost")).isEmpty();
+        then(usersRepository).should(times(1)).findByUsername("ghost");
+
+        userCache.invalidate("ghost");
+        assertThat(userCache.findByUsername("ghost")).isEmpty();
+        then(usersRepository).should(times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void invalidate_reloads_changed_password() {
+        given(usersRepository.findByUsername("jdoe")).willReturn(Optional.of(user));
+        userCache.findByUsername("jdoe");
+
+        user.setPassword("$2a$12$rehashed");
+        userCache.invalidate("jdoe");
+
+        assertThat(userCache.findByUsername("jdoe").orElseThrow().password()).isEqualTo("$2a$12$rehashed");
+    }
+
+    @Test
+    void exposes_hit_counts_per_cache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        userCache.bindTo(registry);
+        given(usersRepository.findByUsername("jdoe")).willReturn(Optional.of(user));
+
+        userCache.findByUsername("jdoe");
+        userCache.findByUsername("jdoe");
+
+        assertThat(registry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,125 @@
+package org.project.bookingapi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.project.bookingapi.entity.Users;
+import org.project.bookingapi.exception.ValidationException;
+import org.project.bookingapi.repository.UsersRepository;
+import org.project.bookingapi.service.UserRegistrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = "booking.password-hashing.strength=4")
+@Testcontainers(disabledWithoutDocker = true)
+class UserRegistrationLoadTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    static final int SIGNUPS = 500;
+    static final int CLIENTS = 32;
+    static final int RESUBMIT_EVERY = 10;
+
+    @Autowired
+    UserRegistrationService userRegistrationService;
+    @Autowired
+    UsersRepository usersRepository;
+
+    private static Users user(String username, String email) {
+        return Users.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .firstName("Load")
+                .lastName("Test")
+                .build();
+    }
+
+    private static void runAll(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void signupBurst_registersEveryDistinctUser() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        // Every RESUBMIT_EVERY-th signup is sent twice, as a client retrying would.
+        for (int i = 0; i < SIGNUPS; i++) {
+            String name = "burst" + i;
+            int copies = i % RESUBMIT_EVERY == 0 ? 2 : 1;
+            for (int copy = 0; copy < copies; copy++) {
+                tasks.add(() -> {
+                    try {
+                        userRegistrationService.registerUser(user(name, name + "@example.com"));
+                    } catch (ValidationException ex) {
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        long start = System.nanoTime();
+        runAll(tasks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("{} registrations from {} clients in {} ms: {} registrations/s",
+                tasks.size(), CLIENTS, Math.round(seconds * 1000), Math.round(tasks.size() / seconds));
+        for (int i = 0; i < SIGNUPS; i++) {
+            assertThat(usersRepository.findByUsername("burst" + i)).as("burst" + i).isPresent();
+        }
+        assertThat(rejected).hasValue(tasks.size() - SIGNUPS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void duplicateBurst_onlyOneWins_andLosersGetFieldErrors() throws Exception {
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            tasks.add(() -> {
+                try {
+                    userRegistrationService.registerUser(user("duplicate", "duplicate@example.com"));
+                    registered.incrementAndGet();
+                } catch (ValidationException ex) {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat((Map<String, String>) ex.getBody().getProperties().get("errors")).containsOnlyKeys("email", "username");
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        runAll(tasks);
+
+        assertThat(registered).hasValue(1);
+        assertThat(rejected).hasValue(CLIENTS - 1);
+    }
+}
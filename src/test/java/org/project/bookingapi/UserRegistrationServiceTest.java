@@ -0,0 +1,109 @@
+package org.project.bookingapi;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.project.bookingapi.entity.Users;
+import org.project.bookingapi.exception.ValidationException;
+import org.project.bookingapi.repository.UsersRepository;
+import org.project.bookingapi.service.UserCache;
+import org.project.bookingapi.service.UserRegistrationService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserRegistrationServiceTest {
+
+    @Mock
+    UsersRepository usersRepository;
+    @Mock
+    PasswordEncoder passwordEncoder;
+    @Mock
+    UserCache userCache;
+
+    @InjectMocks
+    UserRegistrationService userRegistrationService;
+
+    private Users user(String username, String email) {
+        return Users.builder().username(username).email(email).password("secret").build();
+    }
+
+    private DataIntegrityViolationException violation(String sqlState) {
+        return new DataIntegrityViolationException("violation",
+                new PSQLException(new ServerErrorMessage("SERROR\0C" + sqlState + "\0Mduplicate key value\0")));
+    }
+
+    @Test
+    void registerUser_inserts_after_one_combined_existence_query() {
+        Users user = user("jdoe", "jdoe@example.com");
+        given(passwordEncoder.encode("secret")).willReturn("hashed");
+        given(usersRepository.saveAndFlush(user)).willReturn(user);
+
+        Users saved = userRegistrationService.registerUser(user);
+
+        assertThat(saved.getPassword()).isEqualTo("hashed");
+        then(usersRepository).should(times(1)).findByEmailOrUsername("jdoe@example.com", "jdoe");
+        then(usersRepository).should().saveAndFlush(user);
+        then(usersRepository).shouldHaveNoMoreInteractions();
+        then(userCache).should().invalidate("jdoe");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registerUser_rejects_taken_fields_before_hashing() {
+        Users user = user("jdoe", "jdoe@example.com");
+        given(usersRepository.findByEmailOrUsername("jdoe@example.com", "jdoe")).willReturn(List.of(
+                user("jdoe", "other@example.com"),
+                user("someone", "jdoe@example.com")));
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> userRegistrationService.registerUser(user));
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(409);
+        assertThat((Map<String, String>) ex.getBody().getProperties().get("errors")).containsOnlyKeys("email", "username");
+        then(passwordEncoder).shouldHaveNoInteractions();
+        then(usersRepository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registerUser_reports_every_taken_field_after_unique_violation() {
+        Users user = user("jdoe", "jdoe@example.com");
+        given(passwordEncoder.encode("secret")).willReturn("hashed");
+        willThrow(violation("23505")).given(usersRepository).saveAndFlush(user);
+        given(usersRepository.findByEmailOrUsername("jdoe@example.com", "jdoe")).willReturn(List.of(), List.of(
+                user("jdoe", "other@example.com"),
+                user("someone", "jdoe@example.com")));
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> userRegistrationService.registerUser(user));
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(409);
+        assertThat((Map<String, String>) ex.getBody().getProperties().get("errors")).containsOnlyKeys("email", "username");
+        then(userCache).should(never()).invalidate(any());
+    }
+
+    @Test
+    void registerUser_rethrows_other_integrity_violations() {
+        Users user = user("jdoe", "jdoe@example.com");
+        given(passwordEncoder.encode("secret")).willReturn("hashed");
+        willThrow(violation("23502")).given(usersRepository).saveAndFlush(user);
+
+        assertThrows(DataIntegrityViolationException.class, () -> userRegistrationService.registerUser(user));
+        then(usersRepository).should(times(1)).findByEmailOrUsername(any(), any());
+    }
+}